@@ -0,0 +1,56 @@
+package com.gittowork.domain.fortune.service;
+
+import com.gittowork.domain.fortune.model.SajuResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SajuCalculator와 이전 FortuneService 구현(LegacySajuCalculator)의 사주 계산 비용을 비교하는 benchmark.
+ * - 1900~2100년 범위의 임의 생년월일시 1024개를 돌려 가며 계산하여, 특정 날짜에만 유리한 분기가 측정되지 않게 한다.
+ * - gc profiler(gc.alloc.rate.norm)로 호출당 할당량도 함께 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SajuCalculatorBenchmark {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    private final SajuCalculator sajuCalculator = new SajuCalculator();
+    private final LegacySajuCalculator legacySajuCalculator = new LegacySajuCalculator();
+
+    private LocalDateTime[] birthDateTimes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        birthDateTimes = new LocalDateTime[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            birthDateTimes[i] = LocalDateTime.of(1900, 1, 1, 0, 0)
+                    .plusDays(random.nextInt(73_414))
+                    .plusMinutes(random.nextInt(24 * 60));
+        }
+    }
+
+    @Benchmark
+    public SajuResult calculator() {
+        return sajuCalculator.calculate(next(), "M");
+    }
+
+    @Benchmark
+    public SajuResult legacy() {
+        return legacySajuCalculator.calculateSaju(next(), "M");
+    }
+
+    private LocalDateTime next() {
+        cursor = (cursor + 1) & (SAMPLE_SIZE - 1);
+        return birthDateTimes[cursor];
+    }
+}
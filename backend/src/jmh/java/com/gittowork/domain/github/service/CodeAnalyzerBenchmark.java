@@ -0,0 +1,177 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.analysis.JavaPenaltyResult;
+import com.gittowork.domain.github.model.repository.Repository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * subprocess 모드와 in-process 모드의 분석 비용을 비교하는 benchmark.
+ * - subprocessJavaOnly / inProcessJavaOnly: 자바 분석 부분만 비교한다.
+ *   subprocess는 SonarScannerCodeAnalyzer와 같은 명령으로 PMD CLI(JVM 기동 + ruleset 로딩)와 pmd_to_sonar.py 변환을 bash로 실행하고,
+ *   in-process는 PmdCodeAnalyzer.runPmd()로 기동 시 로드한 ruleset을 재사용한다.
+ * - subprocessAnalyze / inProcessAnalyze*: 각 모드의 analyze() 전체(sonar-scanner 실행과 CE task 대기 포함)를 측정한다.
+ *   inProcessAnalyzeChanged는 매 호출 전에 scan fingerprint를 지워 scanner가 실행되는 경우를,
+ *   inProcessAnalyzeUnchanged는 비자바 파일이 바뀌지 않아 scanner를 건너뛰는 경우를 측정한다.
+ *   -Djmh.analysis.sonar-host, -Djmh.analysis.sonar-token으로 SonarQube를, -Djmh.analysis.redis-host/-port(기본값: localhost:6379)로 Redis를 지정하며,
+ *   subprocessAnalyze는 애플리케이션 이미지와 같이 /pmd_result, /app/scripts/pmd_to_sonar.py, pmd, sonar-scanner가 있는 환경에서 실행해야 한다.
+ * - 분석 대상은 -Djmh.analysis.repo(기본값: 상위 git checkout ..), 변환 스크립트는 -Djmh.analysis.pmd-script(기본값: scripts/pmd_to_sonar.py)로 지정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CodeAnalyzerBenchmark {
+
+    private static final String PROJECT_KEY = "gittowork-benchmark";
+
+    private File localRepo;
+    private String pmdScript;
+    private Path pmdResultDir;
+    private PmdCodeAnalyzer pmdCodeAnalyzer;
+
+    @Setup
+    public void setUp() throws Exception {
+        localRepo = new File(System.getProperty("jmh.analysis.repo", "..")).getCanonicalFile();
+        pmdScript = new File(System.getProperty("jmh.analysis.pmd-script", "scripts/pmd_to_sonar.py")).getAbsolutePath();
+        if (!localRepo.isDirectory()) {
+            throw new IllegalStateException("Analysis target not found: " + localRepo);
+        }
+        pmdResultDir = Files.createTempDirectory("pmd_result");
+
+        pmdCodeAnalyzer = new PmdCodeAnalyzer(null, null);
+        setField(pmdCodeAnalyzer, "rulesetPath", "rulesets/java/quickstart.xml");
+        setField(pmdCodeAnalyzer, "threads", 2);
+        pmdCodeAnalyzer.init();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(pmdResultDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public int subprocessJavaOnly() throws IOException, InterruptedException {
+        Files.deleteIfExists(pmdResultDir.resolve("pmd-report.json"));
+        String command = String.format(
+                "pmd check -d \"%s\" -R rulesets/java/quickstart.xml -f xml -r \"%s/pmd-report.xml\" ; " +
+                        "python3 \"%s\" \"%s/pmd-report.xml\" \"%s/pmd-report.json\"",
+                localRepo, pmdResultDir, pmdScript, pmdResultDir, pmdResultDir);
+        Process process = new ProcessBuilder("bash", "-c", command)
+                .directory(localRepo)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        int exitCode = process.waitFor();
+        if (!Files.exists(pmdResultDir.resolve("pmd-report.json"))) {
+            throw new IllegalStateException("PMD subprocess produced no report (exit code " + exitCode + ")");
+        }
+        return exitCode;
+    }
+
+    @Benchmark
+    public JavaPenaltyResult inProcessJavaOnly() {
+        return pmdCodeAnalyzer.runPmd(localRepo);
+    }
+
+    @Benchmark
+    public JavaPenaltyResult subprocessAnalyze(FullPath fullPath) {
+        return fullPath.sonarScannerCodeAnalyzer.analyze(fullPath.repository, PROJECT_KEY, localRepo);
+    }
+
+    @Benchmark
+    public JavaPenaltyResult inProcessAnalyzeChanged(FullPath fullPath) {
+        fullPath.redisTemplate.delete(fullPath.fingerprintKey);
+        return fullPath.pmdCodeAnalyzer.analyze(fullPath.repository, PROJECT_KEY, localRepo);
+    }
+
+    @Benchmark
+    public JavaPenaltyResult inProcessAnalyzeUnchanged(FullPath fullPath) {
+        return fullPath.pmdCodeAnalyzer.analyze(fullPath.repository, PROJECT_KEY, localRepo);
+    }
+
+    /**
+     * analyze() 전체 경로에 필요한 SonarQube/Redis 연결. 해당 benchmark를 실행할 때만 만들어진다.
+     */
+    @State(Scope.Benchmark)
+    public static class FullPath {
+
+        private LettuceConnectionFactory connectionFactory;
+        private RedisTemplate<String, Object> redisTemplate;
+        private SonarScannerCodeAnalyzer sonarScannerCodeAnalyzer;
+        private PmdCodeAnalyzer pmdCodeAnalyzer;
+        private Repository repository;
+        private String fingerprintKey;
+
+        @Setup
+        public void setUp() throws Exception {
+            String sonarHost = System.getProperty("jmh.analysis.sonar-host");
+            String sonarToken = System.getProperty("jmh.analysis.sonar-token");
+            if (sonarHost == null || sonarToken == null) {
+                throw new IllegalStateException("jmh.analysis.sonar-host and jmh.analysis.sonar-token are required for analyze() benchmarks");
+            }
+
+            connectionFactory = new LettuceConnectionFactory(
+                    System.getProperty("jmh.analysis.redis-host", "localhost"),
+                    Integer.getInteger("jmh.analysis.redis-port", 6379));
+            connectionFactory.afterPropertiesSet();
+            redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(new StringRedisSerializer());
+            redisTemplate.setValueSerializer(new StringRedisSerializer());
+            redisTemplate.afterPropertiesSet();
+            fingerprintKey = "sonar:scan:" + PROJECT_KEY;
+
+            RestTemplate restTemplate = new RestTemplate();
+            SonarTaskTracker sonarTaskTracker = new SonarTaskTracker(restTemplate);
+            setField(sonarTaskTracker, "sonarHostUrl", sonarHost);
+            setField(sonarTaskTracker, "sonarAnalysisToken", sonarToken);
+            setField(sonarTaskTracker, "initialBackoffMillis", 500L);
+            setField(sonarTaskTracker, "maxBackoffMillis", 5000L);
+            setField(sonarTaskTracker, "timeoutMillis", 300000L);
+
+            sonarScannerCodeAnalyzer = new SonarScannerCodeAnalyzer(restTemplate, sonarTaskTracker);
+            setField(sonarScannerCodeAnalyzer, "sonarHostUrl", sonarHost);
+            setField(sonarScannerCodeAnalyzer, "sonarAnalysisToken", sonarToken);
+
+            pmdCodeAnalyzer = new PmdCodeAnalyzer(sonarScannerCodeAnalyzer, redisTemplate);
+            setField(pmdCodeAnalyzer, "rulesetPath", "rulesets/java/quickstart.xml");
+            setField(pmdCodeAnalyzer, "threads", 2);
+            setField(pmdCodeAnalyzer, "fingerprintTtlHours", 1L);
+            pmdCodeAnalyzer.init();
+
+            repository = Repository.builder()
+                    .repoName(PROJECT_KEY)
+                    .fullName("gittowork/" + PROJECT_KEY)
+                    .build();
+        }
+
+        @TearDown
+        public void tearDown() {
+            redisTemplate.delete(fingerprintKey);
+            connectionFactory.destroy();
+        }
+    }
+
+    private static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,66 @@
+package com.gittowork.global.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.github.model.analysis.CodeLanguage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GithubPayloadReader의 streaming 파싱과 이전 방식(응답 전체를 List<Map<String, Object>> 트리로 역직렬화)의 비용을 비교하는 benchmark.
+ * - src/jmh/resources/github 아래의 GitHub REST 응답 형태 fixture(목록 API 30건 페이지, 파일 40개의 상세 commit)를 payload별로 측정한다.
+ * - 이전 방식은 Map 트리 생성까지만 측정하므로, 이후의 캐스팅/모델 변환 비용을 뺀 하한값이다.
+ * - gc profiler(gc.alloc.rate.norm)로 페이지당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GithubPayloadReaderBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"repositories", "commits", "commit-detail", "issues", "pulls", "events"})
+    private String payload;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream fixture = getClass().getResourceAsStream("/github/" + payload + ".json")) {
+            if (fixture == null) {
+                throw new IllegalStateException("Missing fixture github/" + payload + ".json");
+            }
+            body = fixture.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public Object streamingReader() throws IOException {
+        InputStream in = new ByteArrayInputStream(body);
+        return switch (payload) {
+            case "repositories" -> GithubPayloadReader.readArray(in, GithubPayloadReader::readRepository);
+            case "commits" -> GithubPayloadReader.readArray(in, GithubPayloadReader::readCommit);
+            case "commit-detail" -> GithubPayloadReader.readCommitFileNames(in, CodeLanguage::isCodeFile);
+            case "issues" -> GithubPayloadReader.readArray(in, parser -> GithubPayloadReader.readIssue(parser, 1));
+            case "pulls" -> GithubPayloadReader.readArray(in, GithubPayloadReader::readPullRequest);
+            case "events" -> GithubPayloadReader.readArray(in, GithubPayloadReader::readEvent);
+            default -> throw new IllegalStateException("Unknown payload " + payload);
+        };
+    }
+
+    @Benchmark
+    public Object mapTree() {
+        try {
+            return OBJECT_MAPPER.readValue(body, Object.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
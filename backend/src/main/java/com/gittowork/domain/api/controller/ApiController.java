@@ -1,16 +1,24 @@
 package com.gittowork.domain.api.controller;
 
 import com.gittowork.domain.api.dto.response.ApiVersionResponse;
+import com.gittowork.domain.api.dto.response.GithubQueueMetricsResponse;
 import com.gittowork.global.response.ApiResponse;
+import com.gittowork.global.service.GithubRequestScheduler;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class ApiController {
 
+    private final GithubRequestScheduler githubRequestScheduler;
+
     @GetMapping("/select/version")
     public ApiResponse<ApiVersionResponse> apiVersion() {
         ApiVersionResponse apiVersionResponse = ApiVersionResponse.builder()
@@ -20,4 +28,16 @@ public class ApiController {
 
         return ApiResponse.success(HttpStatus.OK, apiVersionResponse);
     }
+
+    @GetMapping("/select/github-queue")
+    public ApiResponse<GithubQueueMetricsResponse> githubQueueMetrics() {
+        Map<GithubRequestScheduler.Priority, Integer> queueDepth = githubRequestScheduler.getQueueDepth();
+        GithubQueueMetricsResponse githubQueueMetricsResponse = GithubQueueMetricsResponse.builder()
+                .interactiveQueueDepth(queueDepth.get(GithubRequestScheduler.Priority.INTERACTIVE))
+                .backgroundQueueDepth(queueDepth.get(GithubRequestScheduler.Priority.BACKGROUND))
+                .trackedTokens(githubRequestScheduler.getTrackedTokenCount())
+                .build();
+
+        return ApiResponse.success(HttpStatus.OK, githubQueueMetricsResponse);
+    }
 }
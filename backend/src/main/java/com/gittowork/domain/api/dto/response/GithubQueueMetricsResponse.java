@@ -0,0 +1,14 @@
+package com.gittowork.domain.api.dto.response;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubQueueMetricsResponse {
+    private int interactiveQueueDepth;
+    private int backgroundQueueDepth;
+    private int trackedTokens;
+}
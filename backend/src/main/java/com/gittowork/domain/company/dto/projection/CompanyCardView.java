@@ -0,0 +1,16 @@
+package com.gittowork.domain.company.dto.projection;
+
+/**
+ * 기업 목록 카드에 필요한 기업 컬럼만 조회하는 projection.
+ */
+public interface CompanyCardView {
+
+    Integer getCompanyId();
+
+    String getCompanyName();
+
+    String getLogo();
+
+    String getFieldName();
+
+}
@@ -0,0 +1,79 @@
+package com.gittowork.domain.company.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기업 목록(스크랩/좋아요/차단) 화면용 비정규화 read model.
+ * - company, field, job_notice, notice_tech_stack에서 계산한 값을 기업당 한 행으로 보관한다.
+ * - 채용 중 여부는 마감 시각에 따라 바뀌므로 저장하지 않고, 가장 늦은 공고 마감 시각을 저장하여 조회 시점에 판단한다.
+ * - id를 직접 지정하므로 Persistable로 새 행 여부를 알려, 새 행 저장 시 merge(SELECT 후 INSERT) 대신 persist가 사용되게 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "company_summary")
+public class CompanySummary implements Persistable<Integer> {
+
+    @Id
+    @Column(name = "company_id", nullable = false)
+    private Integer companyId;
+
+    @Size(max = 100)
+    @NotNull
+    @Column(name = "company_name", nullable = false, length = 100)
+    private String companyName;
+
+    @Size(max = 255)
+    @Column(name = "logo")
+    private String logo;
+
+    @Size(max = 100)
+    @Column(name = "field_name", length = 100)
+    private String fieldName;
+
+    /** 공고 순서대로 중복을 제거한 기술 스택 이름의 JSON 배열. */
+    @Lob
+    @Column(name = "tech_stacks", columnDefinition = "TEXT")
+    private String techStacks;
+
+    @Column(name = "latest_deadline_dttm")
+    private LocalDateTime latestDeadlineDttm;
+
+    @Column(name = "update_dttm")
+    private LocalDateTime updateDttm;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public Integer getId() {
+        return companyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
+    public boolean hasActiveJobNotice(LocalDateTime now) {
+        return latestDeadlineDttm != null && latestDeadlineDttm.isAfter(now);
+    }
+
+}
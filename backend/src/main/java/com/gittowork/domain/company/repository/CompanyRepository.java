@@ -1,7 +1,22 @@
 package com.gittowork.domain.company.repository;
 
+import com.gittowork.domain.company.dto.projection.CompanyCardView;
 import com.gittowork.domain.company.entity.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CompanyRepository extends JpaRepository<Company, Integer> {
+
+    @Query("select c.id as companyId, c.companyName as companyName, c.logo as logo, f.fieldName as fieldName " +
+            "from Company c left join c.field f " +
+            "where c.id in :companyIds")
+    List<CompanyCardView> findCardsByIdIn(@Param("companyIds") Collection<Integer> companyIds);
+
+    @Query("select c.id from Company c order by c.id")
+    List<Integer> findAllIds();
+
 }
@@ -0,0 +1,7 @@
+package com.gittowork.domain.company.repository;
+
+import com.gittowork.domain.company.entity.CompanySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CompanySummaryRepository extends JpaRepository<CompanySummary, Integer> {
+}
@@ -0,0 +1,50 @@
+package com.gittowork.domain.company.service;
+
+import com.gittowork.domain.company.repository.CompanyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * company_summary read model을 최신 상태로 유지하는 스케줄러.
+ * - 기업/채용 공고/공고 기술 스택은 애플리케이션이 아닌 데이터 적재 스크립트가 쓰므로, 변경 감지 대신 주기적으로 전체 기업을 batch 단위로 재계산하는 것이 유일한 갱신 경로이다.
+ * - 따라서 원본 데이터 변경은 다음 재계산 주기(기본 10분)까지 summary에 반영되지 않을 수 있고, summary 행이 아직 없는 기업은 조회 시점에 계산된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanySummaryRefresher {
+
+    private final CompanySummaryService companySummaryService;
+    private final CompanyRepository companyRepository;
+
+    @Value("${company.summary.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 1. 메서드 설명: 모든 기업의 company_summary를 다시 계산한다.
+     * 2. 로직:
+     *    - 기업 ID 목록을 batch 크기로 나누어 batch마다 별도 트랜잭션으로 갱신한다.
+     *    - 한 batch가 실패해도 나머지 batch는 계속 진행한다.
+     * 3. param: 없음
+     * 4. return: 없음
+     */
+    @Scheduled(cron = "${company.summary.rebuild-cron:0 */10 * * * *}", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        List<Integer> companyIds = companyRepository.findAllIds();
+        int failedBatches = 0;
+        for (int from = 0; from < companyIds.size(); from += batchSize) {
+            try {
+                companySummaryService.refresh(companyIds.subList(from, Math.min(from + batchSize, companyIds.size())));
+            } catch (RuntimeException e) {
+                failedBatches++;
+                log.warn("Failed to rebuild company summaries from index {}: {}", from, e.getMessage());
+            }
+        }
+        log.info("Rebuilt company summaries for {} companies ({} failed batches)", companyIds.size(), failedBatches);
+    }
+}
@@ -0,0 +1,147 @@
+package com.gittowork.domain.company.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.company.dto.projection.CompanyCardView;
+import com.gittowork.domain.company.entity.CompanySummary;
+import com.gittowork.domain.company.repository.CompanyRepository;
+import com.gittowork.domain.company.repository.CompanySummaryRepository;
+import com.gittowork.domain.jobnotice.dto.projection.CompanyDeadlineView;
+import com.gittowork.domain.jobnotice.repository.JobNoticeRepository;
+import com.gittowork.domain.techstack.dto.projection.CompanyTechStackView;
+import com.gittowork.domain.techstack.repository.NoticeTechStackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * company_summary read model을 원본 테이블(company, field, job_notice, notice_tech_stack)로부터 다시 계산하여 저장하는 서비스.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanySummaryService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final CompanyRepository companyRepository;
+    private final CompanySummaryRepository companySummaryRepository;
+    private final JobNoticeRepository jobNoticeRepository;
+    private final NoticeTechStackRepository noticeTechStackRepository;
+
+    /**
+     * 1. 메서드 설명: 지정된 기업들의 company_summary 행을 다시 계산하여 저장한다.
+     * 2. 로직:
+     *    - 기업/분야명, 공고 기술 스택, 가장 늦은 공고 마감 시각을 각각 한 번의 IN 쿼리로 조회한다.
+     *    - 계산한 값이 기존 summary 행과 다를 때만 값과 update_dttm을 바꾸므로, 바뀌지 않은 행은 dirty checking에서 UPDATE되지 않는다.
+     *    - 새 행만 saveAll로 저장하며, CompanySummary가 Persistable이므로 merge(행마다 SELECT) 대신 persist로 INSERT된다.
+     *    - 원본 기업이 삭제된 경우 남아 있는 summary 행을 삭제한다.
+     *    - 호출자의 읽기 전용 트랜잭션과 분리되도록 새 트랜잭션에서 실행한다.
+     * 3. param:
+     *      companyIds - 갱신할 기업 ID 목록
+     * 4. return: 기업 ID별 갱신된 CompanySummary (원본 기업이 없는 ID는 포함되지 않는다)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<Integer, CompanySummary> refresh(Collection<Integer> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+        Set<Integer> ids = new HashSet<>(companyIds);
+
+        Map<Integer, CompanySummary> existing = companySummaryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CompanySummary::getCompanyId, Function.identity()));
+
+        Map<Integer, LocalDateTime> latestDeadlines = new HashMap<>();
+        for (CompanyDeadlineView deadline : jobNoticeRepository.findLatestDeadlinesByCompanyIdIn(ids)) {
+            latestDeadlines.put(deadline.getCompanyId(), deadline.getLatestDeadlineDttm());
+        }
+
+        Map<Integer, Set<String>> techStacksByCompany = new HashMap<>();
+        for (CompanyTechStackView techStack : noticeTechStackRepository.findTechStacksByCompanyIdIn(ids)) {
+            techStacksByCompany.computeIfAbsent(techStack.getCompanyId(), id -> new LinkedHashSet<>())
+                    .add(techStack.getTechStackName());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, CompanySummary> refreshed = new HashMap<>();
+        List<CompanySummary> created = new ArrayList<>();
+        int updated = 0;
+        for (CompanyCardView card : companyRepository.findCardsByIdIn(ids)) {
+            String techStacks = formatTechStacks(techStacksByCompany.getOrDefault(card.getCompanyId(), Set.of()));
+            LocalDateTime latestDeadline = latestDeadlines.get(card.getCompanyId());
+            CompanySummary summary = existing.get(card.getCompanyId());
+            if (summary == null) {
+                summary = CompanySummary.builder().companyId(card.getCompanyId()).build();
+                created.add(summary);
+            } else if (hasSameValues(summary, card, techStacks, latestDeadline)) {
+                refreshed.put(card.getCompanyId(), summary);
+                continue;
+            } else {
+                updated++;
+            }
+            summary.setCompanyName(card.getCompanyName());
+            summary.setLogo(card.getLogo());
+            summary.setFieldName(card.getFieldName());
+            summary.setTechStacks(techStacks);
+            summary.setLatestDeadlineDttm(latestDeadline);
+            summary.setUpdateDttm(now);
+            refreshed.put(card.getCompanyId(), summary);
+        }
+        if (!created.isEmpty()) {
+            companySummaryRepository.saveAll(created);
+        }
+
+        List<CompanySummary> orphans = existing.values().stream()
+                .filter(summary -> !refreshed.containsKey(summary.getCompanyId()))
+                .toList();
+        if (!orphans.isEmpty()) {
+            companySummaryRepository.deleteAll(orphans);
+        }
+
+        log.debug("Refreshed {} company summaries ({} created, {} updated, {} removed)",
+                refreshed.size(), created.size(), updated, orphans.size());
+        return refreshed;
+    }
+
+    /**
+     * 1. 메서드 설명: company_summary에 저장된 기술 스택 JSON 배열을 이름 목록으로 변환한다.
+     * 3. param: techStacks - JSON 배열 문자열 (null 가능)
+     * 4. return: 기술 스택 이름 목록
+     */
+    public static List<String> parseTechStacks(String techStacks) {
+        if (techStacks == null || techStacks.isBlank()) {
+            return List.of();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(techStacks, STRING_LIST);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid tech stack summary: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static boolean hasSameValues(CompanySummary summary, CompanyCardView card, String techStacks, LocalDateTime latestDeadline) {
+        return Objects.equals(summary.getCompanyName(), card.getCompanyName())
+                && Objects.equals(summary.getLogo(), card.getLogo())
+                && Objects.equals(summary.getFieldName(), card.getFieldName())
+                && Objects.equals(summary.getTechStacks(), techStacks)
+                && Objects.equals(summary.getLatestDeadlineDttm(), latestDeadline);
+    }
+
+    private static String formatTechStacks(Collection<String> techStacks) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(techStacks);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize tech stacks", e);
+        }
+    }
+}
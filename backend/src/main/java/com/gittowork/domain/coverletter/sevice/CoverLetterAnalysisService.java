@@ -5,14 +5,14 @@ import com.gittowork.domain.coverletter.entity.CoverLetterAnalysis;
 import com.gittowork.domain.coverletter.repository.CoverLetterAnalysisRepository;
 import com.gittowork.domain.firebase.service.FirebaseService;
 import com.gittowork.domain.user.entity.User;
+import com.gittowork.global.config.AsyncConfig;
 import com.gittowork.global.exception.EmptyFileException;
 import com.gittowork.global.exception.FirebaseMessageException;
 import com.gittowork.global.service.GptService;
+import com.gittowork.global.service.PdfTextExtractor;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +20,11 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -28,6 +33,7 @@ public class CoverLetterAnalysisService {
 
     private final CoverLetterAnalysisRepository coverLetterAnalysisRepository;
     private final GptService gptService;
+    private final PdfTextExtractor pdfTextExtractor;
     private final FirebaseService firebaseService;
 
     /**
@@ -36,8 +42,8 @@ public class CoverLetterAnalysisService {
      *    해당 결과를 CoverLetterAnalysis 엔티티에 저장합니다.
      * 2. 로직:
      *    - 파일 유효성을 검사하고, MultipartFile을 임시 파일로 저장합니다.
-     *    - try-with-resources 구문을 사용해 PDDocument를 로드하고 PDFTextStripper로 텍스트를 추출합니다.
-     *    - 추출한 텍스트를 기반으로 GPT 서비스를 호출하여 분석 결과를 생성합니다.
+     *    - PdfTextExtractor로 heap 사용량과 문자 수를 제한하여 페이지 단위로 텍스트를 추출하고, LLM 입력 크기의 chunk로 나눕니다.
+     *    - chunk별로 GPT 서비스를 호출하고, 여러 chunk의 결과는 mergeAnalyses()로 하나의 분석 결과로 합칩니다.
      *    - 생성된 분석 결과에 CoverLetter와 User 정보를 설정하고 DB에 저장합니다.
      * 3. param:
      *      - file: 사용자가 업로드한 자기소개서 PDF 파일.
@@ -45,7 +51,7 @@ public class CoverLetterAnalysisService {
      *      - user: 분석 요청을 수행하는 사용자 엔티티.
      * 4. return: 없음 (비동기 작업으로 처리되며, 분석 결과는 DB에 저장됩니다).
      */
-    @Async
+    @Async(AsyncConfig.LLM_EXECUTOR)
     @Transactional
     public void coverLetterAnalysis(MultipartFile file, CoverLetter coverLetter, User user) {
         if (file == null || file.isEmpty() || file.getOriginalFilename() == null) {
@@ -64,12 +70,15 @@ public class CoverLetterAnalysisService {
             tempFile = File.createTempFile(sanitizedPrefix, ".pdf");
             file.transferTo(tempFile);
 
-            String content;
-            try (PDDocument document = PDDocument.load(tempFile)) {
-                content = new PDFTextStripper().getText(document);
+            List<String> chunks = pdfTextExtractor.extractChunks(tempFile);
+            if (chunks.isEmpty()) {
+                throw new EmptyFileException("Empty file input");
             }
 
-            CoverLetterAnalysis analysisResult = gptService.coverLetterAnalysis(content, 500);
+            List<CoverLetterAnalysis> chunkAnalyses = chunks.stream()
+                    .map(chunk -> gptService.coverLetterAnalysis(chunk, 500))
+                    .toList();
+            CoverLetterAnalysis analysisResult = mergeAnalyses(chunkAnalyses);
             log.info(analysisResult.toString());
 
             analysisResult.setFile(coverLetter);
@@ -93,4 +102,43 @@ public class CoverLetterAnalysisService {
             }
         }
     }
+
+    /**
+     * 1. 메서드 설명: chunk별 자기소개서 분석 결과를 하나의 분석 결과로 합칩니다.
+     * 2. 로직:
+     *    - 결과가 하나이면 그대로 반환합니다.
+     *    - 역량 점수는 값이 있는 chunk들의 반올림 평균으로, 분석 내용은 chunk 순서대로 줄바꿈으로 이어 붙입니다.
+     * 3. param:
+     *      - analyses: chunk 순서대로 정렬된 분석 결과 목록.
+     * 4. return: 합쳐진 CoverLetterAnalysis.
+     */
+    private CoverLetterAnalysis mergeAnalyses(List<CoverLetterAnalysis> analyses) {
+        if (analyses.size() == 1) {
+            return analyses.get(0);
+        }
+        return CoverLetterAnalysis.builder()
+                .analysisResult(analyses.stream()
+                        .map(CoverLetterAnalysis::getAnalysisResult)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining("\n")))
+                .globalCapability(averageScore(analyses, CoverLetterAnalysis::getGlobalCapability))
+                .challengeSpirit(averageScore(analyses, CoverLetterAnalysis::getChallengeSpirit))
+                .sincerity(averageScore(analyses, CoverLetterAnalysis::getSincerity))
+                .communicationSkill(averageScore(analyses, CoverLetterAnalysis::getCommunicationSkill))
+                .achievementOrientation(averageScore(analyses, CoverLetterAnalysis::getAchievementOrientation))
+                .responsibility(averageScore(analyses, CoverLetterAnalysis::getResponsibility))
+                .honesty(averageScore(analyses, CoverLetterAnalysis::getHonesty))
+                .creativity(averageScore(analyses, CoverLetterAnalysis::getCreativity))
+                .createDttm(analyses.get(0).getCreateDttm())
+                .build();
+    }
+
+    private static Integer averageScore(List<CoverLetterAnalysis> analyses, Function<CoverLetterAnalysis, Integer> score) {
+        OptionalDouble average = analyses.stream()
+                .map(score)
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .average();
+        return average.isPresent() ? (int) Math.round(average.getAsDouble()) : null;
+    }
 }
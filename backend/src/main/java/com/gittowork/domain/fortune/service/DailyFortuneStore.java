@@ -0,0 +1,214 @@
+package com.gittowork.domain.fortune.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.fortune.dto.response.GetTodayFortuneResponse;
+import com.gittowork.domain.fortune.model.SajuResult;
+import com.gittowork.global.config.AsyncConfig;
+import com.gittowork.global.service.GptService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * 사주 구성(연주/월주/일주/시주 + 성별)과 날짜(KST) 단위로 오늘의 운세를 저장하는 저장소.
+ * - 같은 날 같은 사주 구성의 요청은 GPT를 다시 호출하지 않고 저장된 운세를 반환하며, 저장된 운세는 다음 자정(KST)에 만료된다.
+ * - 오늘의 운세의 유일한 캐시이며, LlmGateway는 TODAY_FORTUNE 응답을 따로 캐시하지 않는다. (동시 요청 합치기와 동시 호출 제한만 적용)
+ * - 날짜별로 사주 구성의 조회 횟수를 sorted set에 집계하고, 자정 직후 전날 가장 많이 조회된 구성의 운세를 미리 생성할 수 있다.
+ */
+@Slf4j
+@Service
+public class DailyFortuneStore {
+
+    private static final String FORTUNE_KEY_PREFIX = "fortune:daily:";
+    private static final String POPULARITY_KEY_PREFIX = "fortune:popularity:";
+    private static final String PREWARM_LOCK_KEY_PREFIX = "fortune:prewarm:";
+    private static final String KEY_DELIMITER = "|";
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Duration POPULARITY_TTL = Duration.ofDays(3);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final GptService gptService;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final TaskExecutor llmExecutor;
+
+    @Value("${fortune.max-token:1000}")
+    private int maxToken;
+
+    @Value("${fortune.prewarm.enabled:false}")
+    private boolean prewarmEnabled;
+
+    @Value("${fortune.prewarm.top-n:50}")
+    private int prewarmTopN;
+
+    public DailyFortuneStore(GptService gptService,
+                             RedisTemplate<String, Object> redisTemplate,
+                             @Qualifier(AsyncConfig.LLM_EXECUTOR) TaskExecutor llmExecutor) {
+        this.gptService = gptService;
+        this.redisTemplate = redisTemplate;
+        this.llmExecutor = llmExecutor;
+    }
+
+    /**
+     * 1. 메서드 설명: 오늘(KST) 날짜와 사주 구성에 해당하는 운세를 반환한다.
+     * 2. 로직:
+     *    - 사주 구성의 오늘 조회 횟수를 1 증가시킨다.
+     *    - 저장된 운세가 있으면 그대로 반환하고, 없으면 GPT로 생성하여 다음 자정까지 저장한 후 반환한다.
+     *    - 반환하는 운세의 date는 저장 키의 날짜(yyyy-MM-dd)로 설정된다.
+     * 3. param:
+     *      SajuResult sajuResult - 계산된 사주 구성과 성별.
+     * 4. return: 오늘의 운세 정보를 담은 GetTodayFortuneResponse.
+     */
+    public GetTodayFortuneResponse getTodayFortune(SajuResult sajuResult) {
+        LocalDate today = LocalDate.now(SEOUL);
+        String combination = combinationOf(sajuResult);
+        recordLookup(today, combination);
+        return getOrCreate(today, combination, sajuResult);
+    }
+
+    /**
+     * 1. 메서드 설명: 전날 가장 많이 조회된 사주 구성의 오늘 운세를 미리 생성한다.
+     * 2. 로직:
+     *    - fortune.prewarm.enabled가 false이면 아무 작업도 하지 않는다.
+     *    - 여러 인스턴스 중 한 곳에서만 실행되도록 날짜별 lock 키를 setIfAbsent로 잡는다.
+     *    - 전날 조회 횟수 상위 top-n 구성을 llmExecutor에 제출하며, 이미 저장된 구성은 건너뛴다.
+     *    - executor 대기열이 가득 차면 나머지 구성은 첫 요청 시 생성되도록 남겨둔다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @Scheduled(cron = "${fortune.prewarm.cron:0 5 0 * * *}", zone = "Asia/Seoul")
+    public void prewarm() {
+        if (!prewarmEnabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(SEOUL);
+        Set<Object> popular;
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(PREWARM_LOCK_KEY_PREFIX + today, "1", untilMidnight());
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+            popular = redisTemplate.opsForZSet().reverseRange(POPULARITY_KEY_PREFIX + today.minusDays(1), 0, prewarmTopN - 1L);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load popular saju combinations for prewarm: {}", e.getMessage());
+            return;
+        }
+        if (popular == null || popular.isEmpty()) {
+            return;
+        }
+
+        int submitted = 0;
+        for (Object member : popular) {
+            String combination = member.toString();
+            SajuResult sajuResult = sajuResultOf(combination);
+            if (sajuResult == null || readFortune(fortuneKey(today, combination)) != null) {
+                continue;
+            }
+            try {
+                llmExecutor.execute(() -> {
+                    try {
+                        getOrCreate(today, combination, sajuResult);
+                    } catch (RuntimeException e) {
+                        log.warn("Failed to prewarm fortune for {}: {}", combination, e.getMessage());
+                    }
+                });
+                submitted++;
+            } catch (TaskRejectedException e) {
+                log.info("LLM executor is full, stopping fortune prewarm after {} combinations", submitted);
+                break;
+            }
+        }
+        log.info("Submitted {} fortune prewarm tasks for {}", submitted, today);
+    }
+
+    private GetTodayFortuneResponse getOrCreate(LocalDate date, String combination, SajuResult sajuResult) {
+        String fortuneKey = fortuneKey(date, combination);
+        GetTodayFortuneResponse stored = readFortune(fortuneKey);
+        if (stored != null) {
+            return stored;
+        }
+
+        GetTodayFortuneResponse created = gptService.todayFortune(sajuResult, maxToken);
+        if (created.getFortune() == null) {
+            created.setFortune(new GetTodayFortuneResponse.Fortune());
+        }
+        created.getFortune().setDate(date.toString());
+        writeFortune(fortuneKey, created);
+        return created;
+    }
+
+    private void recordLookup(LocalDate date, String combination) {
+        String popularityKey = POPULARITY_KEY_PREFIX + date;
+        try {
+            redisTemplate.opsForZSet().incrementScore(popularityKey, combination, 1);
+            redisTemplate.expire(popularityKey, POPULARITY_TTL);
+        } catch (RuntimeException e) {
+            log.warn("Failed to record fortune lookup {}: {}", combination, e.getMessage());
+        }
+    }
+
+    private GetTodayFortuneResponse readFortune(String fortuneKey) {
+        try {
+            Object stored = redisTemplate.opsForValue().get(fortuneKey);
+            return stored == null ? null : OBJECT_MAPPER.readValue(stored.toString(), GetTodayFortuneResponse.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read stored fortune {}: {}", fortuneKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeFortune(String fortuneKey, GetTodayFortuneResponse fortune) {
+        Duration ttl = untilMidnight();
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(fortuneKey, OBJECT_MAPPER.writeValueAsString(fortune), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to store fortune {}: {}", fortuneKey, e.getMessage());
+        }
+    }
+
+    private static String fortuneKey(LocalDate date, String combination) {
+        return FORTUNE_KEY_PREFIX + date + ":" + combination;
+    }
+
+    private static String combinationOf(SajuResult sajuResult) {
+        return String.join(KEY_DELIMITER,
+                sajuResult.getYearPillar(),
+                sajuResult.getMonthPillar(),
+                sajuResult.getDayPillar(),
+                sajuResult.getHourPillar(),
+                String.valueOf(sajuResult.getSex()));
+    }
+
+    private static SajuResult sajuResultOf(String combination) {
+        String[] parts = combination.split("\\" + KEY_DELIMITER, -1);
+        if (parts.length != 5) {
+            return null;
+        }
+        return SajuResult.builder()
+                .yearPillar(parts[0])
+                .monthPillar(parts[1])
+                .dayPillar(parts[2])
+                .hourPillar(parts[3])
+                .sex(parts[4])
+                .build();
+    }
+
+    private static Duration untilMidnight() {
+        ZonedDateTime now = ZonedDateTime.now(SEOUL);
+        return Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(SEOUL));
+    }
+}
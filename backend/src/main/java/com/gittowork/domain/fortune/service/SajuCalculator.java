@@ -0,0 +1,145 @@
+package com.gittowork.domain.fortune.service;
+
+import com.gittowork.domain.fortune.model.SajuResult;
+import com.gittowork.domain.fortune.model.SolarTerm;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 생년월일시로 사주(연주/월주/일주/시주)를 계산하는 계산기.
+ * - 12절기의 시작일은 매년 같은 (월, 일)로 정의되어 있으므로, 클래스 로딩 시 (월, 일) → 월지 인덱스 표를 한 번 만들어 두고 조회만 한다.
+ * - 천간/지지는 인덱스로 계산하고, 60갑자 문자열은 미리 만들어 둔 표에서 꺼내 쓴다.
+ */
+@Service
+public class SajuCalculator {
+
+    private static final String[] HEAVENLY_STEMS = {"갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"};
+    private static final String[] EARTHLY_BRANCHES = {"자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"};
+
+    private static final long BASE_EPOCH_DAY = LocalDate.of(1900, 1, 31).toEpochDay();
+
+    private static final List<SolarTerm> SOLAR_TERMS = List.of(
+            new SolarTerm(1, 5, "축"),
+            new SolarTerm(2, 4, "인"),
+            new SolarTerm(3, 6, "묘"),
+            new SolarTerm(4, 5, "진"),
+            new SolarTerm(5, 6, "사"),
+            new SolarTerm(6, 5, "오"),
+            new SolarTerm(7, 7, "미"),
+            new SolarTerm(8, 8, "신"),
+            new SolarTerm(9, 8, "유"),
+            new SolarTerm(10, 8, "술"),
+            new SolarTerm(11, 7, "해"),
+            new SolarTerm(12, 7, "자")
+    );
+
+    /** (month * 32 + dayOfMonth) → 해당 날짜에 적용되는 월지 인덱스. */
+    private static final byte[] MONTH_BRANCH_BY_DAY = buildMonthBranchTable();
+
+    /** [천간 인덱스][지지 인덱스] → 천간+지지 문자열. */
+    private static final String[][] PILLARS = buildPillarTable();
+
+    /**
+     * 1. 메서드 설명: 입력된 생년월일시와 성별을 기반으로 사주(SajuResult)를 계산하는 메서드.
+     * 2. 로직:
+     *    - 연주: 생년을 이용해 천간과 지지를 계산한다.
+     *    - 월주: (월, 일) 절기 표에서 월지를 조회하고, 연간과 월지 인덱스로 월간을 계산한다.
+     *    - 일주: 기준일(1900-01-31)부터의 경과일 수를 이용해 일간, 일지를 계산한다.
+     *    - 시주: 태어난 시간과 일간을 기반으로 30분 단위 보정을 반영한 시주를 계산한다.
+     * 3. param:
+     *      birthDateTime - 생년월일과 태어난 시간을 포함하는 LocalDateTime 객체.
+     *      sex - 성별 정보.
+     * 4. return: SajuResult (계산된 사주의 구성 정보와 성별을 포함)
+     */
+    public SajuResult calculate(LocalDateTime birthDateTime, String sex) {
+        int yearStemIndex = Math.floorMod(birthDateTime.getYear() - 4, 10);
+        int yearBranchIndex = Math.floorMod(birthDateTime.getYear() - 4, 12);
+
+        int monthBranchIndex = monthBranchIndex(birthDateTime.getMonthValue(), birthDateTime.getDayOfMonth());
+        int monthStemIndex = (yearStemIndex * 2 + monthBranchIndex + 1) % 10;
+
+        int dayIndex = (int) Math.floorMod(birthDateTime.toLocalDate().toEpochDay() - BASE_EPOCH_DAY, 60L);
+        int dayStemIndex = dayIndex % 10;
+        int dayBranchIndex = dayIndex % 12;
+
+        return SajuResult.builder()
+                .yearPillar(PILLARS[yearStemIndex][yearBranchIndex])
+                .monthPillar(PILLARS[monthStemIndex][monthBranchIndex])
+                .dayPillar(PILLARS[dayStemIndex][dayBranchIndex])
+                .hourPillar(hourPillar(birthDateTime.getHour(), birthDateTime.getMinute(), dayStemIndex))
+                .sex(sex)
+                .build();
+    }
+
+    /**
+     * 1. 메서드 설명: 태어난 시간을 기반으로 30분 단위 보정을 반영하여 시주(시간의 천간과 지지)를 계산하는 메서드.
+     * 2. 로직:
+     *    - 태어난 시간을 분 단위로 환산한 후, 자시(23:00 기준)로 조정한다.
+     *    - 120분(2시간) 단위로 시지를 계산하고, 해당 구간의 후반 60분이면 오프셋을 적용하여 천간을 산출한다.
+     * 3. param:
+     *      hour - 태어난 시.
+     *      minute - 태어난 분.
+     *      dayStemIndex - 일간 천간의 인덱스.
+     * 4. return: String (계산된 시주의 천간+지지)
+     */
+    static String hourPillar(int hour, int minute, int dayStemIndex) {
+        int adjustedMinutes = Math.floorMod(hour * 60 + minute - 23 * 60, 1440);
+        int hourBranchIndex = adjustedMinutes / 120;
+        int halfHourOffset = adjustedMinutes % 120 >= 60 ? 1 : 0;
+        int hourStemIndex = ((dayStemIndex % 5) * 2 + hourBranchIndex + halfHourOffset) % 10;
+        return PILLARS[hourStemIndex][hourBranchIndex];
+    }
+
+    static int monthBranchIndex(int month, int dayOfMonth) {
+        return MONTH_BRANCH_BY_DAY[month * 32 + dayOfMonth];
+    }
+
+    /**
+     * 1. 메서드 설명: 1년의 모든 (월, 일)에 대해 적용되는 월지 인덱스 표를 만든다.
+     * 2. 로직:
+     *    - 연초부터 날짜순으로 진행하며, 절기 시작일에 도달하면 해당 절기의 월지로 바꾼다.
+     *    - 첫 절기(소한) 이전 날짜는 전년도 마지막 절기(대설)의 월지를 사용한다.
+     *    - 절기 시작일이 2월 29일 이후에 없으므로 윤년 여부와 관계없이 같은 표를 사용한다.
+     * 3. param: 없음.
+     * 4. return: month * 32 + dayOfMonth로 조회하는 월지 인덱스 배열.
+     */
+    private static byte[] buildMonthBranchTable() {
+        byte[] table = new byte[13 * 32];
+        byte current = (byte) branchIndexOf(SOLAR_TERMS.get(SOLAR_TERMS.size() - 1).getBranch());
+        int termIndex = 0;
+        for (int month = 1; month <= 12; month++) {
+            for (int day = 1; day <= 31; day++) {
+                while (termIndex < SOLAR_TERMS.size()
+                        && SOLAR_TERMS.get(termIndex).getMonth() == month
+                        && SOLAR_TERMS.get(termIndex).getDay() <= day) {
+                    current = (byte) branchIndexOf(SOLAR_TERMS.get(termIndex).getBranch());
+                    termIndex++;
+                }
+                table[month * 32 + day] = current;
+            }
+        }
+        return table;
+    }
+
+    private static String[][] buildPillarTable() {
+        String[][] pillars = new String[HEAVENLY_STEMS.length][EARTHLY_BRANCHES.length];
+        for (int stem = 0; stem < HEAVENLY_STEMS.length; stem++) {
+            for (int branch = 0; branch < EARTHLY_BRANCHES.length; branch++) {
+                pillars[stem][branch] = HEAVENLY_STEMS[stem] + EARTHLY_BRANCHES[branch];
+            }
+        }
+        return pillars;
+    }
+
+    private static int branchIndexOf(String branch) {
+        for (int i = 0; i < EARTHLY_BRANCHES.length; i++) {
+            if (EARTHLY_BRANCHES[i].equals(branch)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown earthly branch: " + branch);
+    }
+}
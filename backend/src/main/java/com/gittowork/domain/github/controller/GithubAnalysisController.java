@@ -10,7 +10,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/github")
@@ -25,6 +27,11 @@ public class GithubAnalysisController {
         return ApiResponse.success(githubService.getGithubAnalysisByRepository(selectedRepositoryId));
     }
 
+    @GetMapping(value = "/select/analysis-progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter analysisProgress(@NotNull @RequestParam String selectedRepositoryId) {
+        return githubService.subscribeAnalysisProgress(selectedRepositoryId);
+    }
+
     @PostMapping("/create/analysis-by-repository")
     public ApiResponse<CreateGithubAnalysisByRepositoryResponse> createAnalysisByRepository(@NotNull @RequestBody CreateAnalysisByRepositoryRequest createAnalysisByRepositoryRequest) {
         return ApiResponse.success(HttpStatus.OK, githubService.createGithubAnalysisByRepositoryResponse(createAnalysisByRepositoryRequest.getRepositories()));
@@ -0,0 +1,85 @@
+package com.gittowork.domain.github.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * GitHub 분석 작업 큐의 항목.
+ * - QUEUED → RUNNING → SUCCEEDED 또는 FAILED로 전이하며, RUNNING 작업은 lease 만료 시각까지만 작업자에게 소유된다.
+ * - lease가 만료된 RUNNING 작업(작업자 종료/재배포)과 재시도 시각이 지난 QUEUED 작업은 다른 작업자가 다시 가져간다.
+ * - active_key는 QUEUED/RUNNING 동안 selected_repositories_id를 갖고 SUCCEEDED/FAILED가 되면 NULL로 비워지며,
+ *   unique 제약으로 같은 조합의 진행 중인 작업이 둘 이상 등록되지 않게 한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "analysis_job", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analysis_job_active_key", columnNames = "active_key")
+}, indexes = {
+        @Index(name = "idx_analysis_job_status_next_run", columnList = "status, next_run_at"),
+        @Index(name = "idx_analysis_job_selected_repositories", columnList = "selected_repositories_id")
+})
+public class AnalysisJob {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "analysis_job_id", nullable = false)
+    private Integer id;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Size(max = 255)
+    @NotNull
+    @Column(name = "selected_repositories_id", nullable = false)
+    private String selectedRepositoriesId;
+
+    @Size(max = 255)
+    @Column(name = "active_key")
+    private String activeKey;
+
+    @Size(max = 1000)
+    @NotNull
+    @Column(name = "repository_ids", nullable = false, length = 1000)
+    private String repositoryIds;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @NotNull
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Size(max = 100)
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @NotNull
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Size(max = 1000)
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @NotNull
+    @Column(name = "create_dttm", nullable = false)
+    private LocalDateTime createDttm;
+}
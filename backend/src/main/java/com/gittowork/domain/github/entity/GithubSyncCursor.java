@@ -0,0 +1,31 @@
+package com.gittowork.domain.github.entity;
+
+import org.springframework.data.annotation.Id;
+import lombok.*;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "github_sync_cursor")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubSyncCursor {
+
+    @Id
+    private String githubSyncCursorId;
+
+    private int userId;
+
+    private int repoId;
+
+    private String lastCommitSha;
+
+    private LocalDateTime lastCommitDate;
+
+    private String etag;
+
+    private LocalDateTime lastSyncedAt;
+}
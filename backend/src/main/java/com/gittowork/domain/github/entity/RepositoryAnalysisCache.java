@@ -0,0 +1,30 @@
+package com.gittowork.domain.github.entity;
+
+import com.gittowork.domain.github.model.analysis.RepositoryResult;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Document(collection = "repository_analysis_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RepositoryAnalysisCache {
+
+    @Id
+    private String repositoryAnalysisCacheId;
+
+    private int repoId;
+
+    private String headSha;
+
+    private String analyzerVersion;
+
+    private RepositoryResult result;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,34 @@
+package com.gittowork.domain.github.model.analysis;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class AnalysisProgressEvent {
+
+    public enum Stage {
+        ANALYSIS, CLONING, SCANNING, FETCHING_METRICS, LLM_SUMMARY
+    }
+
+    public enum State {
+        STARTED, COMPLETED, FAILED, RETRYING
+    }
+
+    private String selectedRepositoryId;
+    private Integer repoId;
+    private Stage stage;
+    private State state;
+    private Long elapsedMillis;
+    private String message;
+    private long timestamp;
+
+    @JsonIgnore
+    public boolean isTerminal() {
+        return stage == Stage.ANALYSIS && (state == State.COMPLETED || state == State.FAILED);
+    }
+}
@@ -0,0 +1,74 @@
+package com.gittowork.domain.github.model.analysis;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 코드 파일로 취급하는 언어와 확장자, 주석 문법.
+ * - key는 SonarQube ncloc_language_distribution의 언어 키와 같게 두어, 기존 언어 분포 결과와 호환되게 한다.
+ */
+@Getter
+public enum CodeLanguage {
+    JAVA("java", "//", "/*", "*/", "java"),
+    KOTLIN("kotlin", "//", "/*", "*/", "kt"),
+    PYTHON("py", "#", null, null, "py"),
+    JAVASCRIPT("js", "//", "/*", "*/", "js"),
+    TYPESCRIPT("ts", "//", "/*", "*/", "ts"),
+    HTML("web", null, "<!--", "-->", "html"),
+    CSS("css", null, "/*", "*/", "css"),
+    C("c", "//", "/*", "*/", "c"),
+    CPP("cpp", "//", "/*", "*/", "cpp"),
+    CSHARP("cs", "//", "/*", "*/", "cs"),
+    RUBY("ruby", "#", "=begin", "=end", "rb"),
+    GO("go", "//", "/*", "*/", "go");
+
+    private static final Map<String, CodeLanguage> BY_EXTENSION = new HashMap<>();
+
+    static {
+        for (CodeLanguage language : values()) {
+            for (String extension : language.extensions) {
+                BY_EXTENSION.put(extension, language);
+            }
+        }
+    }
+
+    private final String key;
+    private final String lineComment;
+    private final String blockCommentStart;
+    private final String blockCommentEnd;
+    private final String[] extensions;
+
+    CodeLanguage(String key, String lineComment, String blockCommentStart, String blockCommentEnd, String... extensions) {
+        this.key = key;
+        this.lineComment = lineComment;
+        this.blockCommentStart = blockCommentStart;
+        this.blockCommentEnd = blockCommentEnd;
+        this.extensions = extensions;
+    }
+
+    /**
+     * 1. 메서드 설명: 파일 이름의 확장자로 언어를 판별한다.
+     * 2. 로직:
+     *    - 마지막 '.' 뒤의 확장자를 소문자로 바꾸어 확장자 표에서 찾는다.
+     * 3. param:
+     *      String filename - 파일의 전체 경로 또는 이름.
+     * 4. return: 해당 언어 또는 코드 파일이 아니면 null.
+     */
+    public static CodeLanguage fromFilename(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        int dot = filename.lastIndexOf('.');
+        if (dot < 0 || dot == filename.length() - 1) {
+            return null;
+        }
+        return BY_EXTENSION.get(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public static boolean isCodeFile(String filename) {
+        return fromFilename(filename) != null;
+    }
+}
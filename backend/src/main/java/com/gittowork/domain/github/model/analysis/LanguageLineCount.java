@@ -0,0 +1,25 @@
+package com.gittowork.domain.github.model.analysis;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Builder
+public class LanguageLineCount {
+    private long codeLines;
+    private long commentLines;
+    private long blankLines;
+    private int files;
+
+    public LanguageLineCount merge(LanguageLineCount other) {
+        return new LanguageLineCount(
+                codeLines + other.codeLines,
+                commentLines + other.commentLines,
+                blankLines + other.blankLines,
+                files + other.files
+        );
+    }
+}
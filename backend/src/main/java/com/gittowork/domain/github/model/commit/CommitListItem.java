@@ -0,0 +1,19 @@
+package com.gittowork.domain.github.model.commit;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommitListItem {
+    private String sha;
+    private String message;
+    private String authorName;
+    private String authorEmail;
+    private LocalDateTime authorDate;
+    private LocalDateTime committerDate;
+}
@@ -0,0 +1,18 @@
+package com.gittowork.domain.github.model.event;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventListItem {
+    private String id;
+    private String type;
+    private String repoName;
+    private String refType;
+    private LocalDateTime createdAt;
+}
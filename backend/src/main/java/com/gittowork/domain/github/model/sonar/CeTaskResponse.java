@@ -0,0 +1,27 @@
+package com.gittowork.domain.github.model.sonar;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CeTaskResponse {
+
+    private Task task;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Task {
+        private String id;
+        private String status;
+        private String errorMessage;
+    }
+}
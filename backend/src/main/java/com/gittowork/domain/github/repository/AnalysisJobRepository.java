@@ -0,0 +1,64 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.AnalysisJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Integer> {
+
+    boolean existsBySelectedRepositoriesIdAndStatusIn(String selectedRepositoriesId, Collection<AnalysisJob.Status> statuses);
+
+    @Query("select j.id from AnalysisJob j " +
+            "where (j.status = :queued and j.nextRunAt <= :now) " +
+            "or (j.status = :running and j.leaseExpiresAt < :now) " +
+            "order by j.nextRunAt")
+    List<Integer> findClaimableIds(@Param("queued") AnalysisJob.Status queued,
+                                   @Param("running") AnalysisJob.Status running,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update AnalysisJob j set j.status = :running, j.leaseOwner = :owner, j.leaseExpiresAt = :leaseUntil, " +
+            "j.attempts = j.attempts + 1 " +
+            "where j.id = :id " +
+            "and ((j.status = :queued and j.nextRunAt <= :now) or (j.status = :running and j.leaseExpiresAt < :now))")
+    int claim(@Param("id") int id,
+              @Param("owner") String owner,
+              @Param("queued") AnalysisJob.Status queued,
+              @Param("running") AnalysisJob.Status running,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update AnalysisJob j set j.leaseExpiresAt = :leaseUntil " +
+            "where j.id in :ids and j.leaseOwner = :owner and j.status = :running")
+    int extendLeases(@Param("ids") Collection<Integer> ids,
+                     @Param("owner") String owner,
+                     @Param("running") AnalysisJob.Status running,
+                     @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update AnalysisJob j set j.status = :status, j.activeKey = :activeKey, j.leaseOwner = null, j.leaseExpiresAt = null, " +
+            "j.nextRunAt = :nextRunAt, j.lastError = :lastError " +
+            "where j.id = :id and j.leaseOwner = :owner and j.status = :running")
+    int release(@Param("id") int id,
+                @Param("owner") String owner,
+                @Param("running") AnalysisJob.Status running,
+                @Param("status") AnalysisJob.Status status,
+                @Param("activeKey") String activeKey,
+                @Param("nextRunAt") LocalDateTime nextRunAt,
+                @Param("lastError") String lastError);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update AnalysisJob j set j.attempts = j.attempts - 1 where j.id = :id")
+    int refundAttempt(@Param("id") int id);
+}
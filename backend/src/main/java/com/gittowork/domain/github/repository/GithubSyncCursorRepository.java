@@ -0,0 +1,12 @@
+package com.gittowork.domain.github.repository;
+
+import com.gittowork.domain.github.entity.GithubSyncCursor;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface GithubSyncCursorRepository extends MongoRepository<GithubSyncCursor, String> {
+    Optional<GithubSyncCursor> findByUserIdAndRepoId(int userId, int repoId);
+}
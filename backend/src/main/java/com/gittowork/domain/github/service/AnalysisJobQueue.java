@@ -0,0 +1,191 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.entity.AnalysisJob;
+import com.gittowork.domain.github.entity.AnalysisStatus;
+import com.gittowork.domain.github.repository.AnalysisJobRepository;
+import com.gittowork.domain.github.repository.AnalysisStatusRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL에 저장되는 GitHub 분석 작업 큐.
+ * - QUEUED/RUNNING 작업은 active_key(unique)에 선택 조합 id를 가지므로, 같은 조합의 작업은 인스턴스와 관계없이 하나만 등록된다.
+ * - 작업 획득은 조건부 UPDATE 한 번으로 수행하므로, 여러 backend 인스턴스가 같은 큐를 공유해도 한 작업은 한 작업자만 가져간다.
+ * - 작업자는 lease를 주기적으로 연장하며, 연장되지 않은 lease는 만료 후 다른 작업자가 다시 가져간다.
+ * - 실패한 작업은 지수 backoff 후 재시도하고, 최대 시도 횟수를 넘으면 FAILED로 끝내며 AnalysisStatus를 FAIL로 바꾼다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisJobQueue {
+
+    private static final List<AnalysisJob.Status> ACTIVE_STATUSES = List.of(AnalysisJob.Status.QUEUED, AnalysisJob.Status.RUNNING);
+
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisStatusRepository analysisStatusRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${github.analysis.job.lease-ms:120000}")
+    private long leaseMillis;
+
+    @Value("${github.analysis.job.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${github.analysis.job.retry-backoff-ms:30000}")
+    private long retryBackoffMillis;
+
+    @Value("${github.analysis.job.max-retry-backoff-ms:600000}")
+    private long maxRetryBackoffMillis;
+
+    private TransactionTemplate insertTransaction;
+
+    @PostConstruct
+    public void init() {
+        insertTransaction = new TransactionTemplate(transactionManager);
+        insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 1. 메서드 설명: 선택된 repository 조합에 대한 분석 작업을 큐에 등록한다.
+     * 2. 로직:
+     *    - active_key에 선택 조합 id를 넣은 QUEUED 작업을 별도 트랜잭션(REQUIRES_NEW)에서 바로 INSERT한다.
+     *    - 같은 조합의 QUEUED/RUNNING 작업이 이미 있으면 active_key unique 제약으로 INSERT가 실패하므로, 이를 이미 등록된 것으로 처리한다.
+     *      (조회 후 INSERT가 아니므로 여러 인스턴스가 동시에 등록해도 작업은 하나만 생긴다.)
+     *    - 제약 위반이지만 진행 중인 작업이 없으면 다른 원인이므로 예외를 그대로 던진다.
+     * 3. param:
+     *      int userId - 로컬 사용자 식별자.
+     *      String selectedRepositoriesId - SelectedRepository 식별자.
+     *      int[] repositoryIds - 분석 대상 repository의 repoId 배열.
+     * 4. return: 새로 등록했으면 true, 이미 진행 중인 작업이 있으면 false.
+     */
+    public boolean enqueue(int userId, String selectedRepositoriesId, int[] repositoryIds) {
+        LocalDateTime now = LocalDateTime.now();
+        AnalysisJob job = AnalysisJob.builder()
+                .userId(userId)
+                .selectedRepositoriesId(selectedRepositoriesId)
+                .activeKey(selectedRepositoriesId)
+                .repositoryIds(Arrays.stream(repositoryIds).mapToObj(String::valueOf).collect(Collectors.joining(",")))
+                .status(AnalysisJob.Status.QUEUED)
+                .attempts(0)
+                .nextRunAt(now)
+                .createDttm(now)
+                .build();
+        try {
+            insertTransaction.executeWithoutResult(status -> analysisJobRepository.saveAndFlush(job));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            if (analysisJobRepository.existsBySelectedRepositoriesIdAndStatusIn(selectedRepositoriesId, ACTIVE_STATUSES)) {
+                log.info("Analysis job for {} is already queued", selectedRepositoriesId);
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 실행 가능한 작업을 최대 limit개까지 획득한다.
+     * 2. 로직:
+     *    - 재시도 시각이 지난 QUEUED 작업과 lease가 만료된 RUNNING 작업의 id를 조회한다.
+     *    - 각 작업을 조건부 UPDATE로 RUNNING 전환하고, 갱신된 행만 (다른 작업자와 경쟁에서 이긴 작업) 반환한다.
+     * 3. param:
+     *      String owner - 작업자 식별자.
+     *      int limit - 최대 획득 수.
+     * 4. return: 획득한 작업 리스트.
+     */
+    @Transactional
+    public List<AnalysisJob> claim(String owner, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(leaseMillis * 1_000_000L);
+        List<AnalysisJob> claimed = new ArrayList<>();
+        for (Integer id : analysisJobRepository.findClaimableIds(
+                AnalysisJob.Status.QUEUED, AnalysisJob.Status.RUNNING, now, PageRequest.of(0, limit))) {
+            if (analysisJobRepository.claim(id, owner, AnalysisJob.Status.QUEUED, AnalysisJob.Status.RUNNING, now, leaseUntil) == 1) {
+                analysisJobRepository.findById(id).ifPresent(claimed::add);
+            }
+        }
+        return claimed;
+    }
+
+    @Transactional
+    public void heartbeat(String owner, Collection<Integer> jobIds) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusNanos(leaseMillis * 1_000_000L);
+        analysisJobRepository.extendLeases(jobIds, owner, AnalysisJob.Status.RUNNING, leaseUntil);
+    }
+
+    @Transactional
+    public void complete(AnalysisJob job, String owner) {
+        if (release(job, owner, AnalysisJob.Status.SUCCEEDED, LocalDateTime.now(), null) == 0) {
+            log.warn("Analysis job {} finished after its lease was lost", job.getId());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 실패한 작업을 재시도 대기열로 돌리거나, 최대 시도 횟수를 넘었으면 FAILED로 종료한다.
+     * 2. 로직:
+     *    - 시도 횟수가 max-attempts 미만이면 retry-backoff-ms × 2^(시도 횟수 - 1) (최대 max-retry-backoff-ms) 후에 다시 실행되도록 QUEUED로 되돌린다.
+     *    - 그 외에는 FAILED로 바꾸고 AnalysisStatus를 FAIL로 저장한다.
+     * 3. param:
+     *      AnalysisJob job - 실패한 작업.
+     *      String owner - 작업자 식별자.
+     *      String error - 실패 사유.
+     * 4. return: 재시도가 예약되었으면 false, 작업이 FAILED로 끝났으면 true.
+     */
+    @Transactional
+    public boolean retryOrFail(AnalysisJob job, String owner, String error) {
+        String lastError = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        if (job.getAttempts() < maxAttempts) {
+            long backoff = Math.min(retryBackoffMillis << Math.min(job.getAttempts() - 1, 20), maxRetryBackoffMillis);
+            release(job, owner, AnalysisJob.Status.QUEUED, LocalDateTime.now().plusNanos(backoff * 1_000_000L), lastError);
+            log.warn("Analysis job {} failed (attempt {}/{}), retrying in {} ms: {}", job.getId(), job.getAttempts(), maxAttempts, backoff, error);
+            return false;
+        }
+
+        if (release(job, owner, AnalysisJob.Status.FAILED, LocalDateTime.now(), lastError) == 0) {
+            return false;
+        }
+        analysisStatusRepository.findBySelectedRepositoriesId(job.getSelectedRepositoriesId())
+                .ifPresent(analysisStatus -> {
+                    analysisStatus.setStatus(AnalysisStatus.Status.FAIL);
+                    analysisStatusRepository.save(analysisStatus);
+                });
+        log.error("Analysis job {} failed after {} attempts: {}", job.getId(), job.getAttempts(), error);
+        return true;
+    }
+
+    /**
+     * 1. 메서드 설명: 실행하지 못한 작업을 시도 횟수를 차감하지 않고 큐에 되돌린다. (로컬 executor가 작업을 거절한 경우)
+     * 2. 로직:
+     *    - QUEUED로 되돌리고 claim에서 증가시킨 시도 횟수를 원복한다.
+     * 3. param:
+     *      AnalysisJob job - 되돌릴 작업.
+     *      String owner - 작업자 식별자.
+     * 4. return: 없음.
+     */
+    @Transactional
+    public void requeue(AnalysisJob job, String owner) {
+        if (release(job, owner, AnalysisJob.Status.QUEUED, LocalDateTime.now(), job.getLastError()) == 1) {
+            analysisJobRepository.refundAttempt(job.getId());
+        }
+    }
+
+    private int release(AnalysisJob job, String owner, AnalysisJob.Status status, LocalDateTime nextRunAt, String lastError) {
+        String activeKey = status == AnalysisJob.Status.QUEUED ? job.getSelectedRepositoriesId() : null;
+        return analysisJobRepository.release(job.getId(), owner, AnalysisJob.Status.RUNNING, status, activeKey, nextRunAt, lastError);
+    }
+}
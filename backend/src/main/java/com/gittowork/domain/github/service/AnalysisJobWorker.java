@@ -0,0 +1,105 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.entity.AnalysisJob;
+import com.gittowork.domain.github.model.analysis.AnalysisProgressEvent;
+import com.gittowork.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AnalysisJobQueue에서 작업을 가져와 codeAnalysisExecutor에서 실행하는 작업자.
+ * - 인스턴스마다 고유한 작업자 id로 lease를 잡고, 실행 중인 작업의 lease를 heartbeat로 연장한다.
+ * - 동시에 실행하는 작업 수는 github.analysis.job.workers로 제한한다.
+ */
+@Slf4j
+@Service
+public class AnalysisJobWorker {
+
+    private final AnalysisJobQueue analysisJobQueue;
+    private final GithubAnalysisService githubAnalysisService;
+    private final AnalysisProgressTracker analysisProgressTracker;
+    private final TaskExecutor codeAnalysisExecutor;
+
+    private final String workerId = UUID.randomUUID().toString();
+    private final Set<Integer> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${github.analysis.job.workers:${github.analysis.pool-size:4}}")
+    private int workers;
+
+    public AnalysisJobWorker(AnalysisJobQueue analysisJobQueue,
+                             GithubAnalysisService githubAnalysisService,
+                             AnalysisProgressTracker analysisProgressTracker,
+                             @Qualifier(AsyncConfig.CODE_ANALYSIS_EXECUTOR) TaskExecutor codeAnalysisExecutor) {
+        this.analysisJobQueue = analysisJobQueue;
+        this.githubAnalysisService = githubAnalysisService;
+        this.analysisProgressTracker = analysisProgressTracker;
+        this.codeAnalysisExecutor = codeAnalysisExecutor;
+    }
+
+    /**
+     * 1. 메서드 설명: 남은 작업자 수만큼 큐에서 작업을 가져와 실행한다.
+     * 2. 로직:
+     *    - 실행 중인 작업 수가 workers 미만이면 빈 자리만큼 작업을 획득한다.
+     *    - executor가 작업을 거절하면 시도 횟수를 차감하지 않고 큐에 되돌린다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @Scheduled(fixedDelayString = "${github.analysis.job.poll-interval-ms:2000}")
+    public void poll() {
+        int free = workers - runningJobIds.size();
+        if (free <= 0) {
+            return;
+        }
+        for (AnalysisJob job : analysisJobQueue.claim(workerId, free)) {
+            runningJobIds.add(job.getId());
+            try {
+                codeAnalysisExecutor.execute(() -> run(job));
+            } catch (TaskRejectedException e) {
+                runningJobIds.remove(job.getId());
+                analysisJobQueue.requeue(job, workerId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${github.analysis.job.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (!runningJobIds.isEmpty()) {
+            analysisJobQueue.heartbeat(workerId, Set.copyOf(runningJobIds));
+        }
+    }
+
+    private void run(AnalysisJob job) {
+        String selectedRepositoryId = job.getSelectedRepositoriesId();
+        long startedAt = System.currentTimeMillis();
+        analysisProgressTracker.reset(selectedRepositoryId);
+        analysisProgressTracker.report(selectedRepositoryId, null, AnalysisProgressEvent.Stage.ANALYSIS,
+                AnalysisProgressEvent.State.STARTED, null, null);
+        try {
+            int[] repositoryIds = Arrays.stream(job.getRepositoryIds().split(","))
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+            githubAnalysisService.githubAnalysisByRepository(repositoryIds, job.getUserId());
+            analysisJobQueue.complete(job, workerId);
+            analysisProgressTracker.report(selectedRepositoryId, null, AnalysisProgressEvent.Stage.ANALYSIS,
+                    AnalysisProgressEvent.State.COMPLETED, System.currentTimeMillis() - startedAt, null);
+        } catch (RuntimeException e) {
+            log.error("Analysis job {} failed", job.getId(), e);
+            boolean failed = analysisJobQueue.retryOrFail(job, workerId, e.getMessage());
+            analysisProgressTracker.report(selectedRepositoryId, null, AnalysisProgressEvent.Stage.ANALYSIS,
+                    failed ? AnalysisProgressEvent.State.FAILED : AnalysisProgressEvent.State.RETRYING,
+                    System.currentTimeMillis() - startedAt, e.getMessage());
+        } finally {
+            runningJobIds.remove(job.getId());
+        }
+    }
+}
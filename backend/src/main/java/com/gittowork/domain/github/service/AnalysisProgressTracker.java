@@ -0,0 +1,213 @@
+package com.gittowork.domain.github.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.domain.github.model.analysis.AnalysisProgressEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * GitHub 분석의 단계별 진행 상황을 기록하고 SSE로 전달하는 tracker.
+ * - 단계(clone, 정적 분석, 결과 조회, LLM 요약)의 시작/완료/실패와 소요 시간을 Redis hash에 snapshot으로 저장한다.
+ * - 같은 이벤트를 Redis pub/sub으로 발행하여, 분석을 실행하는 인스턴스와 SSE 연결을 가진 인스턴스가 달라도 전달되게 한다.
+ * - 구독 시 snapshot을 먼저 보내고, 이후 이벤트를 이어서 보내며, 분석이 끝나면 연결을 닫는다.
+ */
+@Slf4j
+@Service
+public class AnalysisProgressTracker implements MessageListener {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "analysis:progress:";
+    private static final String CHANNEL_PREFIX = "analysis-progress:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${github.analysis.progress.ttl-hours:24}")
+    private long snapshotTtlHours;
+
+    @Value("${github.analysis.progress.sse-timeout-ms:1800000}")
+    private long sseTimeoutMillis;
+
+    public AnalysisProgressTracker(RedisTemplate<String, Object> redisTemplate,
+                                   RedisMessageListenerContainer redisMessageListenerContainer,
+                                   ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new PatternTopic(CHANNEL_PREFIX + "*"));
+    }
+
+    /**
+     * 1. 메서드 설명: 작업을 단계 이벤트로 감싸 실행한다.
+     * 2. 로직:
+     *    - 실행 전 STARTED, 성공 시 소요 시간과 함께 COMPLETED, 예외 시 FAILED 이벤트를 기록한 후 예외를 재전파한다.
+     * 3. param:
+     *      String selectedRepositoryId - SelectedRepository 식별자.
+     *      Integer repoId - repository 식별자 (repository 단위가 아닌 단계는 null).
+     *      AnalysisProgressEvent.Stage stage - 분석 단계.
+     *      Supplier<T> task - 실행할 작업.
+     * 4. return: 작업 결과.
+     */
+    public <T> T track(String selectedRepositoryId, Integer repoId, AnalysisProgressEvent.Stage stage, Supplier<T> task) {
+        long startedAt = System.currentTimeMillis();
+        report(selectedRepositoryId, repoId, stage, AnalysisProgressEvent.State.STARTED, null, null);
+        try {
+            T result = task.get();
+            report(selectedRepositoryId, repoId, stage, AnalysisProgressEvent.State.COMPLETED,
+                    System.currentTimeMillis() - startedAt, null);
+            return result;
+        } catch (RuntimeException e) {
+            report(selectedRepositoryId, repoId, stage, AnalysisProgressEvent.State.FAILED,
+                    System.currentTimeMillis() - startedAt, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 진행 이벤트 하나를 snapshot에 저장하고 발행한다.
+     * 2. 로직:
+     *    - snapshot hash의 "{repoId}:{stage}" 필드를 최신 이벤트로 덮어쓰고 TTL을 갱신한다.
+     *    - 같은 JSON을 분석별 채널로 발행한다. Redis 오류는 분석을 중단시키지 않도록 로그만 남긴다.
+     * 3. param:
+     *      String selectedRepositoryId - SelectedRepository 식별자.
+     *      Integer repoId - repository 식별자 또는 null.
+     *      AnalysisProgressEvent.Stage stage - 분석 단계.
+     *      AnalysisProgressEvent.State state - 단계 상태.
+     *      Long elapsedMillis - 소요 시간 (시작 이벤트는 null).
+     *      String message - 실패 사유 등 부가 메시지.
+     * 4. return: 없음.
+     */
+    public void report(String selectedRepositoryId, Integer repoId, AnalysisProgressEvent.Stage stage,
+                       AnalysisProgressEvent.State state, Long elapsedMillis, String message) {
+        AnalysisProgressEvent event = AnalysisProgressEvent.builder()
+                .selectedRepositoryId(selectedRepositoryId)
+                .repoId(repoId)
+                .stage(stage)
+                .state(state)
+                .elapsedMillis(elapsedMillis)
+                .message(message)
+                .timestamp(System.currentTimeMillis())
+                .build();
+        try {
+            String json = objectMapper.writeValueAsString(event);
+            String key = SNAPSHOT_KEY_PREFIX + selectedRepositoryId;
+            redisTemplate.opsForHash().put(key, (repoId == null ? "-" : repoId) + ":" + stage, json);
+            redisTemplate.expire(key, Duration.ofHours(snapshotTtlHours));
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + selectedRepositoryId, json);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to report analysis progress {}: {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 새 분석 실행 전에 이전 실행의 snapshot을 지운다.
+     * 3. param:
+     *      String selectedRepositoryId - SelectedRepository 식별자.
+     * 4. return: 없음.
+     */
+    public void reset(String selectedRepositoryId) {
+        redisTemplate.delete(SNAPSHOT_KEY_PREFIX + selectedRepositoryId);
+    }
+
+    /**
+     * 1. 메서드 설명: 분석 진행 상황을 받을 SSE 연결을 연다.
+     * 2. 로직:
+     *    - 연결을 등록한 후 Redis snapshot의 이벤트를 시간 순으로 먼저 보낸다.
+     *    - snapshot에 이미 분석 종료 이벤트가 있으면 연결을 바로 닫는다.
+     * 3. param:
+     *      String selectedRepositoryId - SelectedRepository 식별자.
+     * 4. return: SseEmitter 객체.
+     */
+    public SseEmitter subscribe(String selectedRepositoryId) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        emitters.compute(selectedRepositoryId, (key, subscribers) -> {
+            List<SseEmitter> list = subscribers == null ? new CopyOnWriteArrayList<>() : subscribers;
+            list.add(emitter);
+            return list;
+        });
+        Runnable remove = () -> emitters.computeIfPresent(selectedRepositoryId, (key, subscribers) -> {
+            subscribers.remove(emitter);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(throwable -> remove.run());
+
+        List<AnalysisProgressEvent> snapshot = redisTemplate.opsForHash()
+                .values(SNAPSHOT_KEY_PREFIX + selectedRepositoryId).stream()
+                .map(value -> parse(String.valueOf(value)))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(AnalysisProgressEvent::getTimestamp))
+                .toList();
+        for (AnalysisProgressEvent event : snapshot) {
+            send(emitter, event);
+        }
+        if (snapshot.stream().anyMatch(AnalysisProgressEvent::isTerminal)) {
+            emitter.complete();
+        }
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        AnalysisProgressEvent event = parse(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (event == null) {
+            return;
+        }
+        List<SseEmitter> subscribers = emitters.get(event.getSelectedRepositoryId());
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, event);
+            if (event.isTerminal()) {
+                emitter.complete();
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, AnalysisProgressEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.getStage().name())
+                    .data(event));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private AnalysisProgressEvent parse(String json) {
+        try {
+            return objectMapper.readValue(json, AnalysisProgressEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed analysis progress event: {}", e.getMessage());
+            return null;
+        }
+    }
+}
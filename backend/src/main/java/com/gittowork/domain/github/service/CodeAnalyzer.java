@@ -0,0 +1,63 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.analysis.JavaPenaltyResult;
+import com.gittowork.domain.github.model.repository.Repository;
+
+import java.io.File;
+
+/**
+ * 로컬 checkout에 대해 정적 분석을 수행하는 analyzer.
+ * - 구현체는 Java 코드의 PMD 위반을 집계하여 JavaPenaltyResult로 반환하고,
+ *   비자바 코드의 SonarQube 측정 지표가 서버에 반영되도록 분석 결과를 업로드한다.
+ * - github.analysis.engine 설정으로 subprocess(PMD CLI + sonar-scanner) 또는 in-process(PMD Java API) 모드를 선택한다.
+ * - in-process 모드는 자바 분석 부분(PMD CLI JVM 기동, 분석마다의 ruleset 로딩, pmd_to_sonar.py 변환, SonarQube 이슈 조회)을 없애고,
+ *   비자바 파일이 마지막 업로드 이후 바뀌지 않은 repository는 sonar-scanner 실행과 CE task 대기도 건너뛴다.
+ *   비자바 파일이 바뀐 경우에는 두 모드 모두 sonar-scanner subprocess를 한 번 실행한다.
+ *   두 모드의 analyze 전체 비용은 src/jmh의 CodeAnalyzerBenchmark로 측정한다.
+ */
+public interface CodeAnalyzer {
+
+    String SEVERITY_BLOCKER = "BLOCKER";
+    String SEVERITY_CRITICAL = "CRITICAL";
+    String SEVERITY_MAJOR = "MAJOR";
+    String SEVERITY_MINOR = "MINOR";
+    String SEVERITY_INFO = "INFO";
+
+    /**
+     * 1. 메서드 설명: 로컬 checkout에 대해 정적 분석을 수행한다.
+     * 2. 로직:
+     *    - 구현체별 방식으로 PMD 분석과 SonarQube 분석을 실행한다.
+     * 3. param:
+     *      Repository repository - 분석 대상 repository.
+     *      String projectKey - SonarQube 프로젝트 키.
+     *      File localRepo - 로컬 checkout 디렉토리.
+     * 4. return: Java PMD 위반 집계 결과.
+     */
+    JavaPenaltyResult analyze(Repository repository, String projectKey, File localRepo);
+
+    /**
+     * 1. 메서드 설명: 심각도별 PMD 위반 수로 자바 penalty를 계산한다. (로그 스케일 적용)
+     * 2. 로직:
+     *    - 심각도별 가중치 × ln(위반 수 + 1)을 합산한다.
+     * 3. param:
+     *      int blockerCount, criticalCount, majorCount, minorCount, infoCount - 심각도별 위반 수.
+     * 4. return: penalty와 위반 카운터를 담은 JavaPenaltyResult.
+     */
+    static JavaPenaltyResult javaPenaltyOf(int blockerCount, int criticalCount, int majorCount, int minorCount, int infoCount) {
+        double javaPenalty = 0.0;
+        javaPenalty += 6.0 * Math.log((double) blockerCount + 1);
+        javaPenalty += 4.0 * Math.log((double) criticalCount + 1);
+        javaPenalty += 2.4 * Math.log((double) majorCount + 1);
+        javaPenalty += 1.0 * Math.log((double) minorCount + 1);
+        javaPenalty += 0.4 * Math.log((double) infoCount + 1);
+
+        return JavaPenaltyResult.builder()
+                .penalty(javaPenalty)
+                .blockerCount(blockerCount)
+                .criticalCount(criticalCount)
+                .majorCount(majorCount)
+                .minorCount(minorCount)
+                .infoCount(infoCount)
+                .build();
+    }
+}
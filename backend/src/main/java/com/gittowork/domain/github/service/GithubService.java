@@ -16,6 +16,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -33,6 +34,8 @@ public class GithubService {
     private final GithubRestApiService githubRestApiService;
     private final GithubAnalysisService githubAnalysisService;
     private final AnalysisStatusRepository analysisStatusRepository;
+    private final AnalysisJobQueue analysisJobQueue;
+    private final AnalysisProgressTracker analysisProgressTracker;
 
     private static final String USER_NOT_FOUND = "User not found";
 
@@ -58,6 +61,22 @@ public class GithubService {
         return buildNotCompleteResponse(selectedRepositoryId, analysisStatus);
     }
 
+    /**
+     * 1. 메서드 설명: 분석의 단계별 진행 상황을 Server-Sent Events로 구독한다.
+     * 2. 로직:
+     *    - 분석 상태가 존재하는지 확인한 후, AnalysisProgressTracker에 SSE 연결을 등록한다.
+     *    - 연결 직후 지금까지의 단계 snapshot을 보내고, 이후 단계 이벤트를 보내며, 분석이 끝나면 연결을 닫는다.
+     * 3. param:
+     *      String selectedRepositoryId - 선택된 repository 식별자.
+     * 4. return: SseEmitter 객체.
+     */
+    public SseEmitter subscribeAnalysisProgress(String selectedRepositoryId) {
+        if (analysisStatusRepository.findBySelectedRepositoriesId(selectedRepositoryId).isEmpty()) {
+            throw new GithubAnalysisNotFoundException("Github analysis status not found");
+        }
+        return analysisProgressTracker.subscribe(selectedRepositoryId);
+    }
+
     /**
      * 1. 메서드 설명: COMPLETE 상태인 경우, 분석 결과를 조회하여 상세 응답(GetGithubAnalysisByRepositoryResponse)을 생성한다.
      * 2. 로직:
@@ -172,7 +191,8 @@ public class GithubService {
      *    - 파라미터로 전달된 repositories 배열과 사용자의 Repository repoId를 비교하여,
      *      해당하는 repository 이름 리스트를 구성한다.
      *    - 구성된 repository 이름 리스트를 이용하여, 신규 GitHub 이벤트가 있는지 체크한다.
-     *    - 신규 이벤트가 존재하면, 비동기로 GitHub 분석을 시작하고, 분석 시작 메시지를 반환한다.
+     *    - 신규 이벤트가 존재하면, 분석 작업을 AnalysisJobQueue에 등록하고 AnalysisStatus를 ANALYZING으로 저장한 후 분석 시작 메시지를 반환한다.
+     *    - 같은 repository 조합의 작업이 이미 대기 중이거나 실행 중이면 새로 등록하지 않고 진행 중 메시지를 반환한다.
      * 3. param: int[] repositories - 분석 대상 repository의 repoId 배열.
      * 4. return: CreateGithubAnalysisByRepositoryResponse - 분석 시작 여부와 메시지를 담은 DTO.
      */
@@ -198,10 +218,10 @@ public class GithubService {
                 .collect(Collectors.toList());
 
         boolean analysisStarted = githubRestApiService.checkNewGithubEvents(githubAccessToken, userName, userId, selectedRepoNames);
+        boolean analysisEnqueued = false;
         String selectedRepositoryId = null;
         if (analysisStarted) {
             githubAnalysisService.saveUserGithubRepositoryInfo(githubAccessToken, userName, userId);
-            githubAnalysisService.githubAnalysisByRepository(repositories, userName);
 
             List<Repository> selectedRepositories = userRepositories.stream()
                     .filter(repo -> selectedRepoIds.contains(repo.getRepoId()))
@@ -213,6 +233,7 @@ public class GithubService {
             AnalysisStatus analysisStatus = analysisStatusRepository.findByUserAndSelectedRepositoriesId(user, selectedRepository.getSelectedRepositoryId())
                     .orElseThrow(() -> new GithubAnalysisNotFoundException("Github Analysis Status Not Found"));
 
+            analysisEnqueued = analysisJobQueue.enqueue(userId, selectedRepository.getSelectedRepositoryId(), repositories);
             analysisStatus.setStatus(AnalysisStatus.Status.ANALYZING);
 
             selectedRepositoryId = analysisStatus.getSelectedRepositoriesId();
@@ -224,7 +245,8 @@ public class GithubService {
                 .analysisStarted(analysisStarted)
                 .selectedRepositoryId(selectedRepositoryId)
                 .selectedRepositories(selectedRepoNames)
-                .message(analysisStarted ? "분석이 시작되었습니다." : "마지막 분석 이후로 추가 이벤트가 없습니다.")
+                .message(!analysisStarted ? "마지막 분석 이후로 추가 이벤트가 없습니다."
+                        : analysisEnqueued ? "분석이 시작되었습니다." : "이미 분석이 진행 중입니다.")
                 .build();
     }
 
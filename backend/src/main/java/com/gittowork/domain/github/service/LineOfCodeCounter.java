@@ -0,0 +1,320 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.analysis.CodeLanguage;
+import com.gittowork.domain.github.model.analysis.LanguageLineCount;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 checkout의 코드 라인 수를 언어별 code/comment/blank로 집계하는 counter.
+ * - .git, 의존성(vendor, node_modules), 빌드 산출물 디렉토리는 탐색하지 않는다.
+ * - 파일은 전용 ForkJoinPool에서 병렬로 처리하며, 큰 파일은 memory-mapped로 읽고 문자 디코딩 없이 바이트 단위로 줄을 분류한다.
+ */
+@Slf4j
+@Service
+public class LineOfCodeCounter {
+
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of(
+            ".git", ".scannerwork", ".gradle", ".idea", ".venv", "venv", "__pycache__",
+            "node_modules", "vendor", "third_party", "build", "target", "dist", "out", "bin"
+    );
+
+    @Value("${github.analysis.loc.parallelism:4}")
+    private int parallelism;
+
+    @Value("${github.analysis.loc.mmap-threshold-bytes:65536}")
+    private long mmapThresholdBytes;
+
+    @Value("${github.analysis.loc.max-file-bytes:10485760}")
+    private long maxFileBytes;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 1. 메서드 설명: repository 디렉토리의 코드 파일을 언어별로 집계한다.
+     * 2. 로직:
+     *    - 제외 디렉토리를 건너뛰며 CodeLanguage로 분류되는 파일 목록을 모은다.
+     *    - 전용 pool에서 파일별 라인 수를 병렬로 세고, 언어별로 합산한다.
+     * 3. param:
+     *      File repoDir - 로컬 checkout 디렉토리.
+     * 4. return: 언어별 code/comment/blank 라인 수.
+     */
+    public Map<CodeLanguage, LanguageLineCount> count(File repoDir) {
+        if (!repoDir.exists() || !repoDir.isDirectory()) {
+            log.warn("Repository directory {} does not exist or is not a directory.", repoDir.getAbsolutePath());
+            return Collections.emptyMap();
+        }
+
+        List<Path> files = collectCodeFiles(repoDir.toPath());
+        return pool.submit(() -> files.parallelStream()
+                        .collect(Collectors.toMap(
+                                path -> CodeLanguage.fromFilename(path.getFileName().toString()),
+                                this::countFile,
+                                LanguageLineCount::merge,
+                                () -> new EnumMap<>(CodeLanguage.class))))
+                .join();
+    }
+
+    private List<Path> collectCodeFiles(Path root) {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(root) && SKIPPED_DIRECTORIES.contains(dir.getFileName().toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()
+                            && attrs.size() <= maxFileBytes
+                            && CodeLanguage.isCodeFile(file.getFileName().toString())) {
+                        files.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    log.warn("Skipping unreadable path {}: {}", file, e.getMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.error("Error walking through repository directory {}: {}", root, e.getMessage());
+        }
+        return files;
+    }
+
+    private LanguageLineCount countFile(Path path) {
+        CodeLanguage language = CodeLanguage.fromFilename(path.getFileName().toString());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer;
+            if (size >= mmapThresholdBytes) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // 파일 끝까지 읽는다.
+                }
+                buffer.flip();
+            }
+            return countLines(buffer, language);
+        } catch (IOException e) {
+            log.error("Error reading file {} (skipping file): {}", path, e.getMessage());
+            return new LanguageLineCount(0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 파일 내용을 줄 단위로 code/comment/blank로 분류한다.
+     * 2. 로직:
+     *    - 앞뒤 공백을 제외한 줄이 비어 있으면 blank로 센다.
+     *    - 블록 주석 안이거나 한 줄 주석/블록 주석으로 시작하고 뒤에 코드가 없으면 comment로 센다.
+     *    - 그 외에는 code로 세며, 문자열 리터럴과 한 줄 주석 밖에서 닫히지 않은 블록 주석이 시작되면 다음 줄부터 블록 주석으로 처리한다.
+     *    - 주석 기호는 모두 ASCII이므로 UTF-8 등 ASCII 호환 인코딩을 디코딩 없이 바이트로 비교한다.
+     * 3. param:
+     *      ByteBuffer buffer - 파일 내용.
+     *      CodeLanguage language - 파일 언어.
+     * 4. return: 파일 하나의 라인 수 집계.
+     */
+    LanguageLineCount countLines(ByteBuffer buffer, CodeLanguage language) {
+        byte[] lineComment = toBytes(language.getLineComment());
+        byte[] blockStart = toBytes(language.getBlockCommentStart());
+        byte[] blockEnd = toBytes(language.getBlockCommentEnd());
+
+        long code = 0;
+        long comment = 0;
+        long blank = 0;
+        boolean inBlock = false;
+
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+
+            int start = lineStart;
+            int end = lineEnd;
+            while (start < end && isWhitespace(buffer.get(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(buffer.get(end - 1))) {
+                end--;
+            }
+
+            if (start == end) {
+                blank++;
+            } else if (inBlock) {
+                int close = indexOf(buffer, start, end, blockEnd);
+                if (close < 0) {
+                    comment++;
+                } else {
+                    inBlock = false;
+                    if (isCommentOnly(buffer, close + blockEnd.length, end, lineComment)) {
+                        comment++;
+                    } else {
+                        code++;
+                        inBlock = opensBlock(buffer, close + blockEnd.length, end, lineComment, blockStart, blockEnd);
+                    }
+                }
+            } else if (startsWith(buffer, start, end, lineComment)) {
+                comment++;
+            } else if (startsWith(buffer, start, end, blockStart)) {
+                int close = indexOf(buffer, start + blockStart.length, end, blockEnd);
+                if (close < 0) {
+                    comment++;
+                    inBlock = true;
+                } else if (isCommentOnly(buffer, close + blockEnd.length, end, lineComment)) {
+                    comment++;
+                } else {
+                    code++;
+                    inBlock = opensBlock(buffer, close + blockEnd.length, end, lineComment, blockStart, blockEnd);
+                }
+            } else {
+                code++;
+                inBlock = opensBlock(buffer, start, end, lineComment, blockStart, blockEnd);
+            }
+            lineStart = next;
+        }
+        return new LanguageLineCount(code, comment, blank, 1);
+    }
+
+    private boolean isCommentOnly(ByteBuffer buffer, int from, int end, byte[] lineComment) {
+        while (from < end && isWhitespace(buffer.get(from))) {
+            from++;
+        }
+        return from == end || startsWith(buffer, from, end, lineComment);
+    }
+
+    /**
+     * 1. 메서드 설명: 코드 줄에서 닫히지 않은 블록 주석이 시작되는지 확인한다.
+     * 2. 로직:
+     *    - 줄을 앞에서부터 훑으며 "...", '...', `...` 문자열 리터럴(escape 포함)은 건너뛴다.
+     *    - 한 줄 주석 기호를 만나면 나머지는 주석이므로 블록 주석이 시작되지 않은 것으로 본다.
+     *    - 블록 주석 시작 기호를 만나면 같은 줄에서 닫히는지 확인하고, 닫히면 그 뒤부터 계속 훑는다.
+     * 3. param:
+     *      ByteBuffer buffer - 파일 내용.
+     *      int from, end - 검사할 줄 구간.
+     *      byte[] lineComment, blockStart, blockEnd - 언어별 주석 기호.
+     * 4. return: 줄 끝까지 닫히지 않은 블록 주석이 있으면 true.
+     */
+    private boolean opensBlock(ByteBuffer buffer, int from, int end,
+                               byte[] lineComment, byte[] blockStart, byte[] blockEnd) {
+        if (blockStart == null) {
+            return false;
+        }
+        int i = from;
+        while (i < end) {
+            byte b = buffer.get(i);
+            if (b == '"' || b == '\'' || b == '`') {
+                int close = closingQuote(buffer, i + 1, end, b);
+                if (close >= 0) {
+                    i = close + 1;
+                    continue;
+                }
+            } else if (startsWith(buffer, i, end, lineComment)) {
+                return false;
+            } else if (startsWith(buffer, i, end, blockStart)) {
+                int close = indexOf(buffer, i + blockStart.length, end, blockEnd);
+                if (close < 0) {
+                    return true;
+                }
+                i = close + blockEnd.length;
+                continue;
+            }
+            i++;
+        }
+        return false;
+    }
+
+    private static int closingQuote(ByteBuffer buffer, int from, int end, byte quote) {
+        for (int i = from; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '\\') {
+                i++;
+            } else if (b == quote) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int from, int end, byte[] marker) {
+        if (marker == null || end - from < marker.length) {
+            return false;
+        }
+        for (int i = 0; i < marker.length; i++) {
+            if (buffer.get(from + i) != marker[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int end, byte[] marker) {
+        for (int i = from; i <= end - marker.length; i++) {
+            if (startsWith(buffer, i, end, marker)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(ByteBuffer buffer, int from, int end, byte[] marker) {
+        for (int i = end - marker.length; i >= from; i--) {
+            if (startsWith(buffer, i, end, marker)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f';
+    }
+
+    private static byte[] toBytes(String marker) {
+        return marker == null ? null : marker.getBytes(StandardCharsets.US_ASCII);
+    }
+}
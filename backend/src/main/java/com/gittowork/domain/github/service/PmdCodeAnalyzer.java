@@ -0,0 +1,186 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.analysis.JavaPenaltyResult;
+import com.gittowork.domain.github.model.repository.Repository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.pmd.PMDConfiguration;
+import net.sourceforge.pmd.PmdAnalysis;
+import net.sourceforge.pmd.lang.rule.RulePriority;
+import net.sourceforge.pmd.lang.rule.RuleSet;
+import net.sourceforge.pmd.lang.rule.RuleSetLoader;
+import net.sourceforge.pmd.reporting.Report;
+import net.sourceforge.pmd.reporting.RuleViolation;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * PMD Java API로 자바 코드를 프로세스 내에서 분석하는 analyzer. (github.analysis.engine=in-process)
+ * - ruleset은 기동 시 한 번 로드하여 모든 분석에서 재사용하므로, 분석마다 PMD JVM 기동과 XML → JSON 변환이 필요 없다.
+ * - 비자바 측정 지표를 위해 sonar-scanner는 PMD 없이 subprocess로 실행한다.
+ *   마지막 업로드 이후 비자바 파일이 바뀌지 않았으면(HEAD tree의 비자바 blob fingerprint가 같으면) SonarQube의 기존 측정 지표를 그대로 쓰고 scanner를 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PmdCodeAnalyzer implements CodeAnalyzer {
+
+    private static final String SCAN_FINGERPRINT_KEY_PREFIX = "sonar:scan:";
+
+    private final SonarScannerCodeAnalyzer sonarScannerCodeAnalyzer;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${pmd.ruleset:rulesets/java/quickstart.xml}")
+    private String rulesetPath;
+
+    @Value("${pmd.threads:2}")
+    private int threads;
+
+    @Value("${sonar.scan.fingerprint-ttl-hours:168}")
+    private long fingerprintTtlHours;
+
+    private RuleSet ruleSet;
+
+    @PostConstruct
+    public void init() {
+        ruleSet = new RuleSetLoader().loadFromResource(rulesetPath);
+        log.info("Loaded PMD ruleset {} ({} rules)", rulesetPath, ruleSet.size());
+    }
+
+    /**
+     * 1. 메서드 설명: 자바 코드는 PMD Java API로 분석하고, 비자바 코드가 바뀐 경우에만 sonar-scanner를 실행한다.
+     * 2. 로직:
+     *    - runPmd로 자바 penalty를 계산한다.
+     *    - checkout HEAD의 비자바 파일 fingerprint를 계산하여 projectKey로 마지막 업로드한 fingerprint와 비교한다.
+     *    - 같으면 SonarQube 측정 지표가 이미 최신이므로 scanner를 건너뛰고, 다르면 scanner 실행 후 fingerprint를 저장한다.
+     *    - fingerprint 계산이나 Redis 조회에 실패하면 항상 scanner를 실행한다.
+     * 3. param:
+     *      Repository repository - 분석 대상 repository.
+     *      String projectKey - SonarQube 프로젝트 키.
+     *      File localRepo - 로컬 checkout 디렉토리.
+     * 4. return: Java PMD 위반 집계 결과.
+     */
+    @Override
+    public JavaPenaltyResult analyze(Repository repository, String projectKey, File localRepo) {
+        JavaPenaltyResult javaPenaltyResult = runPmd(localRepo);
+        String fingerprint = nonJavaFingerprint(localRepo);
+        if (fingerprint != null && fingerprint.equals(lastScannedFingerprint(projectKey))) {
+            log.info("Skipping sonar-scanner for {}: non-Java sources unchanged since last upload", projectKey);
+            return javaPenaltyResult;
+        }
+        sonarScannerCodeAnalyzer.runSonarScanner(repository, projectKey, localRepo);
+        saveScannedFingerprint(projectKey, fingerprint);
+        return javaPenaltyResult;
+    }
+
+    /**
+     * 1. 메서드 설명: checkout HEAD tree에서 자바 이외 파일의 경로와 blob id로 fingerprint를 계산한다.
+     * 2. 로직:
+     *    - HEAD commit의 tree를 재귀로 순회하며 .java 파일을 제외한 경로와 blob id를 SHA-256에 누적한다.
+     *    - tree 객체만 읽으므로 파일 내용을 읽거나 작업 디렉토리를 순회하지 않는다.
+     * 3. param:
+     *      File localRepo - 로컬 checkout 디렉토리.
+     * 4. return: fingerprint 16진수 문자열. (HEAD를 읽을 수 없으면 null)
+     */
+    String nonJavaFingerprint(File localRepo) {
+        try (Git git = Git.open(localRepo);
+             RevWalk revWalk = new RevWalk(git.getRepository());
+             TreeWalk treeWalk = new TreeWalk(git.getRepository())) {
+            ObjectId head = git.getRepository().resolve(Constants.HEAD);
+            if (head == null) {
+                return null;
+            }
+            treeWalk.addTree(revWalk.parseCommit(head).getTree());
+            treeWalk.setRecursive(true);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            while (treeWalk.next()) {
+                String path = treeWalk.getPathString();
+                if (path.endsWith(".java")) {
+                    continue;
+                }
+                digest.update(path.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(treeWalk.getObjectId(0).name().getBytes(StandardCharsets.US_ASCII));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Failed to fingerprint non-Java sources of {}: {}", localRepo, e.getMessage());
+            return null;
+        }
+    }
+
+    private String lastScannedFingerprint(String projectKey) {
+        try {
+            return Objects.toString(redisTemplate.opsForValue().get(SCAN_FINGERPRINT_KEY_PREFIX + projectKey), null);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read sonar scan fingerprint of {}: {}", projectKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveScannedFingerprint(String projectKey, String fingerprint) {
+        if (fingerprint == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(SCAN_FINGERPRINT_KEY_PREFIX + projectKey, fingerprint,
+                    Duration.ofHours(fingerprintTtlHours));
+        } catch (DataAccessException e) {
+            log.warn("Failed to save sonar scan fingerprint of {}: {}", projectKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 로컬 checkout의 자바 파일을 PMD로 분석하여 심각도별 위반 수를 집계한다.
+     * 2. 로직:
+     *    - 미리 로드한 ruleset으로 PmdAnalysis를 실행하고 report를 수집한다.
+     *    - 규칙 우선순위를 pmd_to_sonar.py와 동일하게 매핑한다. (1: BLOCKER, 2: CRITICAL, 3: MAJOR, 4: MINOR, 그 외: INFO)
+     * 3. param:
+     *      File localRepo - 로컬 checkout 디렉토리.
+     * 4. return: penalty와 위반 카운터를 담은 JavaPenaltyResult.
+     */
+    JavaPenaltyResult runPmd(File localRepo) {
+        PMDConfiguration configuration = new PMDConfiguration();
+        configuration.addInputPath(localRepo.toPath());
+        configuration.setThreads(threads);
+        configuration.setIgnoreIncrementalAnalysis(true);
+        configuration.setMinimumPriority(RulePriority.LOW);
+
+        int blockerCount = 0;
+        int criticalCount = 0;
+        int majorCount = 0;
+        int minorCount = 0;
+        int infoCount = 0;
+        try (PmdAnalysis pmd = PmdAnalysis.create(configuration)) {
+            pmd.addRuleSet(ruleSet);
+            Report report = pmd.performAnalysisAndCollectReport();
+            for (RuleViolation violation : report.getViolations()) {
+                switch (violation.getRule().getPriority().getPriority()) {
+                    case 1 -> blockerCount++;
+                    case 2 -> criticalCount++;
+                    case 3 -> majorCount++;
+                    case 4 -> minorCount++;
+                    default -> infoCount++;
+                }
+            }
+        }
+        return CodeAnalyzer.javaPenaltyOf(blockerCount, criticalCount, majorCount, minorCount, infoCount);
+    }
+}
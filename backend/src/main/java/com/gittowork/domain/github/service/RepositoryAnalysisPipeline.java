@@ -0,0 +1,76 @@
+package com.gittowork.domain.github.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 여러 repository 분석을 clone → 정적 분석(PMD, sonar-scanner) → Sonar 결과 조회 단계로 나누어 파이프라인으로 실행하는 executor 모음.
+ * - 단계별로 별도의 고정 크기 pool을 두어, 무거운 scanner subprocess 수와 clone/HTTP 동시성을 각각 제한한다.
+ * - 한 repository가 정적 분석 중일 때 다른 repository는 clone 또는 결과 조회 단계를 진행할 수 있다.
+ */
+@Slf4j
+@Service
+public class RepositoryAnalysisPipeline {
+
+    public enum Stage {
+        CLONE,
+        STATIC_ANALYSIS,
+        RESULT_FETCH
+    }
+
+    @Value("${github.analysis.clone-concurrency:4}")
+    private int cloneConcurrency;
+
+    @Value("${github.analysis.static-analysis-concurrency:2}")
+    private int staticAnalysisConcurrency;
+
+    @Value("${github.analysis.result-fetch-concurrency:4}")
+    private int resultFetchConcurrency;
+
+    private final Map<Stage, ExecutorService> executors = new EnumMap<>(Stage.class);
+
+    @PostConstruct
+    public void init() {
+        executors.put(Stage.CLONE, newStagePool("analysis-clone-", cloneConcurrency));
+        executors.put(Stage.STATIC_ANALYSIS, newStagePool("analysis-static-", staticAnalysisConcurrency));
+        executors.put(Stage.RESULT_FETCH, newStagePool("analysis-fetch-", resultFetchConcurrency));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdown);
+    }
+
+    /**
+     * 1. 메서드 설명: 작업을 지정된 단계의 pool에서 비동기로 실행한다.
+     * 2. 로직:
+     *    - 단계별 pool의 스레드 수만큼만 동시에 실행되고, 나머지는 해당 단계의 대기열에서 순서를 기다린다.
+     * 3. param:
+     *      Stage stage - 실행할 파이프라인 단계.
+     *      Supplier<T> task - 실행할 작업.
+     * 4. return: 작업 결과를 담은 CompletableFuture.
+     */
+    public <T> CompletableFuture<T> supply(Stage stage, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executors.get(stage));
+    }
+
+    private ExecutorService newStagePool(String threadPrefix, int size) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, threadPrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,304 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.global.exception.SonarAnalysisException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.FetchCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.transport.FetchResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * 분석용 repository 로컬 clone을 관리하는 저장소.
+ * - 최초에는 shallow(depth) clone을 수행하고, 이미 존재하는 clone은 fetch + hard reset으로 최신 상태로 맞춘다.
+ * - repository별 lock으로 동시에 같은 repository를 분석하는 작업이 하나의 checkout을 공유한다.
+ *   checkout은 read lock으로 공유되므로, 분석기는 checkout 안의 고정된 경로에 산출물을 쓰지 않고 실행별 경로를 사용해야 한다.
+ * - 전체 디스크 사용량이 상한을 넘으면 가장 오래 사용되지 않은 clone부터 삭제한다.
+ */
+@Slf4j
+@Service
+public class RepositoryCloneStore {
+
+    @Value("${github.clone.root:/tmp/repositories}")
+    private String rootPath;
+
+    @Value("${github.clone.depth:1}")
+    private int depth;
+
+    @Value("${github.clone.max-disk-bytes:10737418240}")
+    private long maxDiskBytes;
+
+    @Value("${github.clone.refresh-interval-ms:600000}")
+    private long refreshIntervalMillis;
+
+    /** access order LinkedHashMap: 순회 시 가장 오래 사용되지 않은 clone이 먼저 나온다. entries 모니터로 보호한다. */
+    private final Map<String, CloneEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Path.of(rootPath);
+        Files.createDirectories(root);
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(Files::isDirectory)
+                    .sorted(Comparator.comparingLong(dir -> dir.toFile().lastModified()))
+                    .forEach(dir -> {
+                        CloneEntry entry = new CloneEntry(dir);
+                        entry.sizeBytes = directorySize(dir);
+                        entries.put(dir.getFileName().toString(), entry);
+                    });
+        }
+        log.info("Repository clone store initialized at {} with {} existing clones", root, entries.size());
+    }
+
+    /**
+     * 1. 메서드 설명: repository의 최신 checkout을 확보하고, 사용이 끝날 때까지 유지되는 Checkout을 반환한다.
+     * 2. 로직:
+     *    - read lock을 잡은 상태에서 clone이 refresh 주기 내에 동기화되었다면 그대로 공유한다.
+     *    - 그렇지 않으면 write lock으로 전환하여 clone 또는 fetch + reset을 수행한 후 read lock으로 낮춘다.
+     *    - 동기화 후 디스크 사용량 상한을 넘으면 사용 중이지 않은 오래된 clone을 삭제한다.
+     * 3. param:
+     *      String repoUrl - clone할 repository의 URL.
+     *      String projectKey - clone 디렉토리 이름으로 사용할 프로젝트 키.
+     * 4. return: 로컬 checkout 디렉토리를 담은 Checkout 객체. (try-with-resources로 반드시 닫아야 한다.)
+     */
+    public Checkout checkout(String repoUrl, String projectKey) {
+        CloneEntry entry;
+        synchronized (entries) {
+            entry = entries.computeIfAbsent(projectKey, key -> new CloneEntry(root.resolve(key)));
+        }
+
+        long stamp = entry.lock.readLock();
+        if (entry.isFresh(refreshIntervalMillis)) {
+            return new Checkout(entry, stamp);
+        }
+        entry.lock.unlockRead(stamp);
+
+        stamp = entry.lock.writeLock();
+        try {
+            if (!entry.isFresh(refreshIntervalMillis)) {
+                sync(entry, repoUrl);
+            }
+        } catch (RuntimeException e) {
+            entry.lock.unlockWrite(stamp);
+            throw e;
+        }
+        stamp = entry.lock.tryConvertToReadLock(stamp);
+
+        evictIfNeeded();
+        return new Checkout(entry, stamp);
+    }
+
+    /**
+     * 1. 메서드 설명: clone 없이 원격 repository의 HEAD commit SHA를 조회한다. (git ls-remote)
+     * 2. 로직:
+     *    - 원격의 ref 목록만 받아 HEAD가 가리키는 commit SHA를 반환한다.
+     *    - 조회에 실패하면 null을 반환하여 호출자가 캐시를 사용하지 않도록 한다.
+     * 3. param:
+     *      String repoUrl - repository URL.
+     * 4. return: HEAD commit SHA 또는 null.
+     */
+    public String resolveRemoteHead(String repoUrl) {
+        try {
+            Ref head = Git.lsRemoteRepository()
+                    .setRemote(repoUrl)
+                    .callAsMap()
+                    .get(Constants.HEAD);
+            return head == null || head.getObjectId() == null ? null : head.getObjectId().name();
+        } catch (GitAPIException e) {
+            log.warn("Failed to resolve remote HEAD for {}: {}", repoUrl, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: clone 디렉토리를 원격 repository의 기본 브랜치 최신 상태로 맞춘다.
+     * 2. 로직:
+     *    - .git 디렉토리가 있으면 depth 제한 fetch 후 원격 HEAD로 hard reset하고, 분석 과정에서 생긴 파일을 정리한다.
+     *    - clone이 없거나 손상되었으면 디렉토리를 지우고 shallow clone을 새로 수행한다.
+     * 3. param:
+     *      CloneEntry entry - 동기화할 clone 항목. (write lock을 보유한 상태로 호출한다.)
+     *      String repoUrl - repository URL.
+     * 4. return: 없음.
+     */
+    private void sync(CloneEntry entry, String repoUrl) {
+        File repoDir = entry.directory.toFile();
+        boolean fetched = false;
+        if (Files.isDirectory(entry.directory.resolve(Constants.DOT_GIT))) {
+            try (Git git = Git.open(repoDir)) {
+                FetchCommand fetch = git.fetch().setRemote(Constants.DEFAULT_REMOTE_NAME);
+                if (depth > 0) {
+                    fetch.setDepth(depth);
+                }
+                FetchResult fetchResult = fetch.call();
+                Ref head = fetchResult.getAdvertisedRef(Constants.HEAD);
+                if (head != null && head.getObjectId() != null) {
+                    git.reset().setMode(ResetCommand.ResetType.HARD).setRef(head.getObjectId().name()).call();
+                }
+                git.clean().setCleanDirectories(true).setIgnore(false).setForce(true).call();
+                fetched = true;
+            } catch (IOException | GitAPIException e) {
+                log.warn("Failed to update existing clone {}, re-cloning: {}", repoDir, e.getMessage());
+            }
+        }
+
+        if (!fetched) {
+            deleteDirectory(entry.directory);
+            CloneCommand clone = Git.cloneRepository()
+                    .setURI(repoUrl)
+                    .setDirectory(repoDir);
+            if (depth > 0) {
+                clone.setDepth(depth);
+            }
+            try (Git ignored = clone.call()) {
+                log.info("Cloned repository {} into {}", repoUrl, repoDir);
+            } catch (GitAPIException e) {
+                log.error("Error while cloning repository: {}", repoUrl, e);
+                deleteDirectory(entry.directory);
+                entry.lastSyncedAt = 0;
+                entry.sizeBytes = 0;
+                throw new SonarAnalysisException("Failed to clone repository: " + e.getMessage());
+            }
+        }
+
+        entry.headSha = resolveLocalHead(repoDir);
+        entry.lastSyncedAt = System.currentTimeMillis();
+        entry.sizeBytes = directorySize(entry.directory);
+    }
+
+    private String resolveLocalHead(File repoDir) {
+        try (Git git = Git.open(repoDir)) {
+            ObjectId head = git.getRepository().resolve(Constants.HEAD);
+            return head == null ? null : head.name();
+        } catch (IOException e) {
+            log.warn("Failed to resolve HEAD of clone {}: {}", repoDir, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 전체 clone 디스크 사용량이 상한을 넘으면 LRU 순서로 clone을 삭제한다.
+     * 2. 로직:
+     *    - 가장 오래 사용되지 않은 항목부터 순회하며, write lock을 즉시 얻을 수 있는(사용 중이지 않은) clone만 삭제한다.
+     *    - 삭제된 항목은 다음 checkout 시 다시 clone된다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    private void evictIfNeeded() {
+        synchronized (entries) {
+            long total = entries.values().stream().mapToLong(entry -> entry.sizeBytes).sum();
+            for (CloneEntry candidate : entries.values()) {
+                if (total <= maxDiskBytes) {
+                    return;
+                }
+                if (candidate.sizeBytes == 0) {
+                    continue;
+                }
+                long stamp = candidate.lock.tryWriteLock();
+                if (stamp == 0L) {
+                    continue;
+                }
+                try {
+                    log.info("Evicting clone {} ({} bytes)", candidate.directory, candidate.sizeBytes);
+                    deleteDirectory(candidate.directory);
+                    total -= candidate.sizeBytes;
+                    candidate.sizeBytes = 0;
+                    candidate.lastSyncedAt = 0;
+                } finally {
+                    candidate.lock.unlockWrite(stamp);
+                }
+            }
+        }
+    }
+
+    private long directorySize(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .mapToLong(path -> path.toFile().length())
+                    .sum();
+        } catch (IOException e) {
+            log.warn("Failed to measure clone directory {}: {}", directory, e.getMessage());
+            return 0L;
+        }
+    }
+
+    private void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        } catch (IOException e) {
+            log.warn("Failed to delete clone directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * 확보된 checkout. 닫을 때 repository의 read lock을 반환한다.
+     * StampedLock을 사용하므로 checkout을 연 스레드와 다른 스레드에서 닫아도 된다.
+     */
+    public static final class Checkout implements AutoCloseable {
+        private final CloneEntry entry;
+        private final long stamp;
+        private boolean closed;
+
+        private Checkout(CloneEntry entry, long stamp) {
+            this.entry = entry;
+            this.stamp = stamp;
+        }
+
+        public File getDirectory() {
+            return entry.directory.toFile();
+        }
+
+        public String getHeadSha() {
+            return entry.headSha;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                entry.lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private static final class CloneEntry {
+        private final Path directory;
+        private final StampedLock lock = new StampedLock();
+        private volatile long lastSyncedAt;
+        private volatile long sizeBytes;
+        private volatile String headSha;
+
+        private CloneEntry(Path directory) {
+            this.directory = directory;
+        }
+
+        private boolean isFresh(long refreshIntervalMillis) {
+            return lastSyncedAt > 0
+                    && System.currentTimeMillis() - lastSyncedAt < refreshIntervalMillis
+                    && Files.isDirectory(directory);
+        }
+    }
+}
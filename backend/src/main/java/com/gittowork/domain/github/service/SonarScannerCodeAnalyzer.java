@@ -0,0 +1,228 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.analysis.JavaPenaltyResult;
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.domain.github.model.sonar.IssueFacetsResponse;
+import com.gittowork.global.exception.SonarAnalysisException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * PMD CLI, pmd_to_sonar.py 변환, sonar-scanner를 bash subprocess로 실행하는 analyzer. (github.analysis.engine=subprocess)
+ * - PMD 결과는 SonarQube external issue로 업로드되며, CE task가 끝난 후 자바 penalty를 SonarQube issues API에서 조회한다.
+ * - 같은 checkout을 여러 분석이 read lock으로 공유하므로, 실행마다 별도의 scanner working directory와 PMD 결과 디렉토리를 사용하고
+ *   report-task.txt도 해당 실행의 working directory에서 읽는다. 실행이 끝나면 두 디렉토리를 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SonarScannerCodeAnalyzer implements CodeAnalyzer {
+
+    private static final String PMD_RESULT_ROOT = "/pmd_result";
+    private static final String SCANNER_WORK_DIR_PREFIX = ".scannerwork-";
+
+    private final RestTemplate restTemplate;
+    private final SonarTaskTracker sonarTaskTracker;
+
+    @Value("${sonar.host.url}")
+    private String sonarHostUrl;
+
+    @Value("${sonar.analysis.token}")
+    private String sonarAnalysisToken;
+
+    @Override
+    public JavaPenaltyResult analyze(Repository repository, String projectKey, File localRepo) {
+        String runId = UUID.randomUUID().toString();
+        Path pmdResultDir = Path.of(PMD_RESULT_ROOT, projectKey, runId);
+        String workingDirectory = SCANNER_WORK_DIR_PREFIX + runId;
+        String command = String.format(
+                "mkdir -p \"%s\" ; " +
+                        "pmd check -d \"%s\" -R rulesets/java/quickstart.xml -f xml -r \"%s/pmd-report.xml\" ; " +
+                        "python3 /app/scripts/pmd_to_sonar.py \"%s/pmd-report.xml\" \"%s/pmd-report.json\" ; ",
+                pmdResultDir, localRepo.getAbsolutePath(), pmdResultDir,
+                pmdResultDir, pmdResultDir
+        ) + sonarScannerCommand(repository, projectKey, localRepo, workingDirectory)
+                + " -Dsonar.externalIssuesReportPaths=\"" + pmdResultDir + "/pmd-report.json\"";
+        try {
+            runCommand(repository, localRepo, command);
+            sonarTaskTracker.awaitCompletion(localRepo.toPath().resolve(workingDirectory));
+            return fetchJavaPenalty(projectKey);
+        } finally {
+            deleteQuietly(pmdResultDir);
+            deleteQuietly(localRepo.toPath().resolve(workingDirectory));
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: PMD 없이 sonar-scanner만 실행하여 비자바 코드의 측정 지표를 SonarQube에 업로드한다.
+     * 2. 로직:
+     *    - Java 파일은 제외하고 실행별 working directory로 sonar-scanner를 실행한다. (자바는 PMD로 별도 분석)
+     *    - 해당 working directory의 report-task.txt로 scanner가 제출한 CE task가 끝날 때까지 기다린다.
+     * 3. param:
+     *      Repository repository - 분석 대상 repository.
+     *      String projectKey - SonarQube 프로젝트 키.
+     *      File localRepo - 로컬 checkout 디렉토리.
+     * 4. return: 없음.
+     */
+    public void runSonarScanner(Repository repository, String projectKey, File localRepo) {
+        String workingDirectory = SCANNER_WORK_DIR_PREFIX + UUID.randomUUID();
+        try {
+            runCommand(repository, localRepo, sonarScannerCommand(repository, projectKey, localRepo, workingDirectory));
+            sonarTaskTracker.awaitCompletion(localRepo.toPath().resolve(workingDirectory));
+        } finally {
+            deleteQuietly(localRepo.toPath().resolve(workingDirectory));
+        }
+    }
+
+    private String sonarScannerCommand(Repository repository, String projectKey, File localRepo, String workingDirectory) {
+        return String.format(
+                "sonar-scanner -X -Dsonar.log.level=TRACE " +
+                        "-Dsonar.projectBaseDir=\"%s\" " +
+                        "-Dsonar.working.directory=%s " +
+                        "-Dsonar.projectKey=%s " +
+                        "-Dsonar.projectName=\"%s\" " +
+                        "-Dsonar.sources=. " +
+                        "-Dsonar.host.url=%s " +
+                        "-Dsonar.login=%s " +
+                        "-Dsonar.exclusions=**/*.java," + SCANNER_WORK_DIR_PREFIX + "*/**",
+                localRepo.getAbsolutePath(),
+                workingDirectory,
+                projectKey,
+                repository.getFullName(),
+                sonarHostUrl,
+                sonarAnalysisToken
+        );
+    }
+
+    /**
+     * 1. 메서드 설명: 분석 명령을 bash subprocess로 실행한다.
+     * 2. 로직:
+     *    - bash -c로 명령을 실행하고, stdout/stderr를 로그로 전달하며 종료를 기다린다.
+     *    - 종료 코드가 0이 아니거나 실행 중 오류가 발생하면 SonarAnalysisException을 발생시킨다.
+     * 3. param:
+     *      Repository repository - 분석 대상 repository.
+     *      File localRepo - 작업 디렉토리로 사용할 로컬 checkout.
+     *      String command - 실행할 명령 문자열.
+     * 4. return: 없음.
+     */
+    private void runCommand(Repository repository, File localRepo, String command) {
+        String repositoryPathUrl = "https://github.com/" + repository.getFullName() + ".git";
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder("bash", "-c", command);
+            processBuilder.directory(localRepo);
+
+            Process process = processBuilder.start();
+
+            Thread stdoutThread = new Thread(() -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                    reader.lines().forEach(log::info);
+                } catch (IOException e) {
+                    log.error("Error reading stdout", e);
+                }
+            });
+            Thread stderrThread = new Thread(() -> {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
+                    reader.lines().forEach(log::error);
+                } catch (IOException e) {
+                    log.error("Error reading stderr", e);
+                }
+            });
+            stdoutThread.start();
+            stderrThread.start();
+
+            int exitCode = process.waitFor();
+            stdoutThread.join();
+            stderrThread.join();
+
+            if (exitCode != 0) {
+                log.info("Github analysis exited with exit code: {}", exitCode);
+                throw new SonarAnalysisException("SonarQube analysis failed for project: " + repositoryPathUrl);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while analyzing repository: {}", repositoryPathUrl, e);
+            throw new SonarAnalysisException("SonarQube analysis failed due to interruption: " + e.getMessage());
+        } catch (IOException e) {
+            log.error("IOException while analyzing repository: {}", repositoryPathUrl, e);
+            throw new SonarAnalysisException("SonarQube analysis failed: " + e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .map(Path::toFile)
+                    .forEach(File::delete);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to delete analysis directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: SonarQube에 업로드된 PMD 이슈의 심각도별 건수를 조회하여 자바 코드에 대한 penalty와 violation 카운터를 계산한다.
+     * 2. 로직:
+     *    - issues API를 engineId=pmd, facets=severities, ps=1로 호출하여 이슈 목록 대신 심각도별 전체 건수만 한 번에 받는다.
+     *    - 페이지 크기 제한과 관계없이 전체 이슈 수가 반영되며, 메모리에는 카운터만 유지한다.
+     * 3. param:
+     *      String projectKey - SonarQube 프로젝트 키.
+     * 4. return: JavaPenaltyResult 객체 (penalty와 각 violation 카운터 포함).
+     */
+    private JavaPenaltyResult fetchJavaPenalty(String projectKey) {
+        String pmdIssuesUrl = sonarHostUrl + "/api/issues/search?componentKeys=" + projectKey
+                + "&engineId=pmd&facets=severities&ps=1";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Basic " +
+                Base64.getEncoder().encodeToString((sonarAnalysisToken + ":").getBytes()));
+        IssueFacetsResponse issuesResponse = restTemplate.exchange(
+                pmdIssuesUrl,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                IssueFacetsResponse.class
+        ).getBody();
+
+        int blockerCount = 0;
+        int criticalCount = 0;
+        int majorCount = 0;
+        int minorCount = 0;
+        int infoCount = 0;
+        if (issuesResponse != null && issuesResponse.getFacets() != null) {
+            for (IssueFacetsResponse.Facet facet : issuesResponse.getFacets()) {
+                if (!"severities".equals(facet.getProperty()) || facet.getValues() == null) {
+                    continue;
+                }
+                for (IssueFacetsResponse.FacetValue value : facet.getValues()) {
+                    switch (value.getVal()) {
+                        case SEVERITY_BLOCKER -> blockerCount = value.getCount();
+                        case SEVERITY_CRITICAL -> criticalCount = value.getCount();
+                        case SEVERITY_MAJOR -> majorCount = value.getCount();
+                        case SEVERITY_MINOR -> minorCount = value.getCount();
+                        case SEVERITY_INFO -> infoCount = value.getCount();
+                        default -> log.warn("Unexpected severity encountered: {}", value.getVal());
+                    }
+                }
+            }
+        }
+        return CodeAnalyzer.javaPenaltyOf(blockerCount, criticalCount, majorCount, minorCount, infoCount);
+    }
+}
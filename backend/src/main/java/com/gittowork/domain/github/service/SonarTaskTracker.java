@@ -0,0 +1,113 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.sonar.CeTaskResponse;
+import com.gittowork.global.exception.SonarAnalysisException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Properties;
+
+/**
+ * sonar-scanner가 제출한 compute engine(CE) task의 완료를 추적하는 tracker.
+ * - scanner가 실행별 working directory(sonar.working.directory)에 남기는 report-task.txt에서 ceTaskId를 읽고,
+ *   /api/ce/task를 backoff 간격으로 조회한다.
+ * - task가 SUCCESS가 된 후에만 측정 지표를 조회하도록 하여, 처리 중인 결과를 읽지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SonarTaskTracker {
+
+    private static final String REPORT_TASK_FILE = "report-task.txt";
+    private static final String STATUS_SUCCESS = "SUCCESS";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String STATUS_CANCELED = "CANCELED";
+
+    private final RestTemplate restTemplate;
+
+    @Value("${sonar.host.url}")
+    private String sonarHostUrl;
+
+    @Value("${sonar.analysis.token}")
+    private String sonarAnalysisToken;
+
+    @Value("${sonar.ce.initial-backoff-ms:500}")
+    private long initialBackoffMillis;
+
+    @Value("${sonar.ce.max-backoff-ms:5000}")
+    private long maxBackoffMillis;
+
+    @Value("${sonar.ce.timeout-ms:300000}")
+    private long timeoutMillis;
+
+    /**
+     * 1. 메서드 설명: scanner가 제출한 CE task가 끝날 때까지 기다린다.
+     * 2. 로직:
+     *    - scanner working directory의 report-task.txt에서 ceTaskId를 읽는다.
+     *      (같은 checkout을 공유하는 다른 분석의 report를 읽지 않도록 실행별 디렉토리를 받는다.)
+     *    - /api/ce/task를 조회하여 SUCCESS면 반환하고, FAILED/CANCELED면 SonarAnalysisException을 발생시킨다.
+     *    - 그 외(PENDING, IN_PROGRESS)면 대기 간격을 두 배씩(최대 max-backoff-ms) 늘리며 다시 조회한다.
+     *    - timeout-ms 안에 끝나지 않으면 SonarAnalysisException을 발생시킨다.
+     * 3. param:
+     *      Path scannerWorkingDirectory - 이번 sonar-scanner 실행의 working directory.
+     * 4. return: 없음.
+     */
+    public void awaitCompletion(Path scannerWorkingDirectory) {
+        String ceTaskId = readCeTaskId(scannerWorkingDirectory.resolve(REPORT_TASK_FILE));
+        String url = sonarHostUrl + "/api/ce/task?id=" + ceTaskId;
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "Basic " +
+                Base64.getEncoder().encodeToString((sonarAnalysisToken + ":").getBytes()));
+        HttpEntity<String> request = new HttpEntity<>(headers);
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long backoff = initialBackoffMillis;
+        while (true) {
+            CeTaskResponse response = restTemplate.exchange(url, HttpMethod.GET, request, CeTaskResponse.class).getBody();
+            String status = response == null || response.getTask() == null ? null : response.getTask().getStatus();
+            if (STATUS_SUCCESS.equals(status)) {
+                log.info("Sonar CE task {} completed", ceTaskId);
+                return;
+            }
+            if (STATUS_FAILED.equals(status) || STATUS_CANCELED.equals(status)) {
+                throw new SonarAnalysisException("Sonar CE task " + ceTaskId + " " + status + ": " + response.getTask().getErrorMessage());
+            }
+            if (System.currentTimeMillis() + backoff > deadline) {
+                throw new SonarAnalysisException("Timed out waiting for Sonar CE task " + ceTaskId);
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SonarAnalysisException("Interrupted while waiting for Sonar CE task " + ceTaskId);
+            }
+            backoff = Math.min(backoff * 2, maxBackoffMillis);
+        }
+    }
+
+    private String readCeTaskId(Path reportTaskFile) {
+        Properties reportTask = new Properties();
+        try (Reader reader = Files.newBufferedReader(reportTaskFile, StandardCharsets.UTF_8)) {
+            reportTask.load(reader);
+        } catch (IOException e) {
+            throw new SonarAnalysisException("Failed to read scanner report task: " + e.getMessage());
+        }
+        String ceTaskId = reportTask.getProperty("ceTaskId");
+        if (ceTaskId == null || ceTaskId.isBlank()) {
+            throw new SonarAnalysisException("ceTaskId not found in " + reportTaskFile);
+        }
+        return ceTaskId;
+    }
+}
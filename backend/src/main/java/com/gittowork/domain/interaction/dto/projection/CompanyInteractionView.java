@@ -0,0 +1,25 @@
+package com.gittowork.domain.interaction.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상호작용(스크랩/좋아요/차단) 한 건과 해당 기업의 company_summary 값을 함께 조회하는 projection.
+ * company_summary 행이 아직 없으면 companyId와 scrapped 외의 값은 null이다.
+ */
+public interface CompanyInteractionView {
+
+    Integer getCompanyId();
+
+    String getCompanyName();
+
+    String getLogo();
+
+    String getFieldName();
+
+    String getTechStacks();
+
+    LocalDateTime getLatestDeadlineDttm();
+
+    Boolean getScrapped();
+
+}
@@ -10,4 +10,6 @@ import lombok.*;
 public class InteractionGetRequest {
     private int page = 0;
     private int size = 20;
+    private String cursor;          // 이전 응답의 pagination.nextCursor. 지정하면 page 대신 cursor 기준으로 조회한다.
+    private boolean includeTotal;   // cursor 조회에서 전체 개수(totalItems, totalPages)를 함께 계산할지 여부
 }
@@ -8,8 +8,10 @@ import lombok.*;
 @AllArgsConstructor
 @Builder
 public class Pagination {
-    private int currentPage;
+    private Integer currentPage;    // cursor 조회에서는 null
     private int pageSize;
-    private int totalPages;
-    private long totalItems;
+    private Integer totalPages;     // 전체 개수를 계산하지 않은 cursor 조회에서는 null
+    private Long totalItems;        // 전체 개수를 계산하지 않은 cursor 조회에서는 null
+    private boolean hasNext;
+    private String nextCursor;      // 다음 페이지가 없으면 null
 }
@@ -0,0 +1,21 @@
+package com.gittowork.domain.interaction.model;
+
+import lombok.Getter;
+
+/**
+ * 사용자-기업 상호작용 종류.
+ */
+@Getter
+public enum InteractionType {
+    SCRAP("scrap", "user_scraps"),
+    LIKE("like", "user_likes"),
+    BLACKLIST("blacklist", "user_blacklist");
+
+    private final String key;
+    private final String tableName;
+
+    InteractionType(String key, String tableName) {
+        this.key = key;
+        this.tableName = tableName;
+    }
+}
@@ -1,14 +1,39 @@
 package com.gittowork.domain.interaction.repository;
 
+import com.gittowork.domain.interaction.dto.projection.CompanyInteractionView;
 import com.gittowork.domain.interaction.entity.UserLikes;
 import com.gittowork.domain.interaction.entity.UserLikesId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface UserLikesRepository extends JpaRepository<UserLikes, UserLikesId> {
 
-    Page<UserLikes> findByUserId(@Param("userId")Integer userId, Pageable pageable);
+    String INTERACTION_VIEW_QUERY = "select i.id.companyId as companyId, cs.companyName as companyName, cs.logo as logo, " +
+            "cs.fieldName as fieldName, cs.techStacks as techStacks, cs.latestDeadlineDttm as latestDeadlineDttm, " +
+            "case when s.id.userId is null then false else true end as scrapped " +
+            "from UserLikes i left join CompanySummary cs on cs.companyId = i.id.companyId " +
+            "left join UserScraps s on s.id.userId = i.id.userId and s.id.companyId = i.id.companyId " +
+            "where i.id.userId = :userId ";
+
+    @Query(value = INTERACTION_VIEW_QUERY + "order by i.id.companyId",
+            countQuery = "select count(i) from UserLikes i where i.id.userId = :userId")
+    Page<CompanyInteractionView> findInteractionViewsByUserId(@Param("userId") int userId, Pageable pageable);
+
+    @Query(INTERACTION_VIEW_QUERY + "and i.id.companyId > :afterCompanyId order by i.id.companyId")
+    List<CompanyInteractionView> findInteractionViewsByUserIdAfter(@Param("userId") int userId,
+                                                                   @Param("afterCompanyId") int afterCompanyId,
+                                                                   Limit limit);
+
+    @Query("select i.id.companyId from UserLikes i where i.id.userId = :userId")
+    List<Integer> findCompanyIdsByUserId(@Param("userId") int userId);
+
+    @Query("select count(i) from UserLikes i where i.id.userId = :userId")
+    long countByUserId(@Param("userId") int userId);
 
 }
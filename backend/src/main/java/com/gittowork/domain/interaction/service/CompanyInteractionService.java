@@ -1,26 +1,28 @@
 package com.gittowork.domain.interaction.service;
 
-import com.gittowork.domain.company.entity.Company;
+import com.gittowork.domain.company.entity.CompanySummary;
 import com.gittowork.domain.company.repository.CompanyRepository;
+import com.gittowork.domain.company.service.CompanySummaryService;
+import com.gittowork.domain.interaction.dto.projection.CompanyInteractionView;
 import com.gittowork.domain.interaction.dto.request.InteractionGetRequest;
 import com.gittowork.domain.interaction.dto.response.CompanyInteractionResponse;
 import com.gittowork.domain.interaction.dto.response.Pagination;
 import com.gittowork.domain.interaction.dto.response.UserInteractionResult;
 import com.gittowork.domain.interaction.entity.*;
+import com.gittowork.domain.interaction.model.InteractionType;
 import com.gittowork.domain.interaction.repository.UserBlacklistRepository;
 import com.gittowork.domain.interaction.repository.UserLikesRepository;
 import com.gittowork.domain.interaction.repository.UserScrapsRepository;
-import com.gittowork.domain.jobnotice.entity.JobNotice;
-import com.gittowork.domain.jobnotice.repository.JobNoticeRepository;
-import com.gittowork.domain.techstack.repository.NoticeTechStackRepository;
 import com.gittowork.domain.user.entity.User;
 import com.gittowork.domain.user.repository.UserRepository;
 import com.gittowork.global.exception.CompanyNotFoundException;
 import com.gittowork.global.exception.InteractionDuplicateException;
+import com.gittowork.global.exception.InvalidCursorException;
 import com.gittowork.global.exception.UserInteractionNotFoundException;
 import com.gittowork.global.exception.UserNotFoundException;
 import com.gittowork.global.response.MessageOnlyResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,8 +31,16 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -41,10 +51,12 @@ public class CompanyInteractionService {
     private final UserLikesRepository userLikesRepository;
     private final UserScrapsRepository userScrapsRepository;
     private final UserBlacklistRepository userBlacklistRepository;
-    private final JobNoticeRepository jobNoticeRepository;
-    private final NoticeTechStackRepository noticeTechStackRepository;
+    private final CompanySummaryService companySummaryService;
+    private final UserInteractionCache userInteractionCache;
+    private final InteractionWriteBuffer interactionWriteBuffer;
 
     private static final String ALREADY_EXISTS = "Already exists";
+    private static final String CURSOR_PREFIX = "c:";
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자의 정보를 조회한다.
@@ -62,84 +74,176 @@ public class CompanyInteractionService {
     }
 
     /**
-     * 1. 메서드 설명: 주어진 회사 ID에 해당하는 회사 정보를 조회한다.
+     * 1. 메서드 설명: 현재 인증된 사용자의 ID를 조회한다.
      * 2. 로직:
-     *    - 회사 Repository를 통해 회사 정보를 조회한다.
-     * 3. param: companyId - 조회할 회사의 ID
-     * 4. return: Company 객체
+     *    - SecurityContext의 GitHub 사용자명으로 캐시된 사용자 ID를 조회하고, 없으면 getUser()로 조회하여 캐시한다.
+     * 3. param: 없음
+     * 4. return: 사용자 ID
+     */
+    private int getUserId() {
+        String githubName = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userInteractionCache.resolveUserId(githubName, () -> getUser().getId());
+    }
+
+    /**
+     * 1. 메서드 설명: 주어진 회사 ID에 해당하는 회사가 존재하는지 확인한다.
+     * 2. 로직:
+     *    - 회사 Repository를 통해 회사 존재 여부를 확인한다.
+     * 3. param: companyId - 확인할 회사의 ID
+     * 4. return: 없음 (존재하지 않으면 CompanyNotFoundException)
+     */
+    private void validateCompanyExists(Integer companyId) {
+        if (!companyRepository.existsById(companyId)) {
+            throw new CompanyNotFoundException("Company not found");
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 상호작용을 Redis set에 추가하여 중복 여부를 확인하고, DB 반영을 write-behind 버퍼에 기록한다.
+     * 2. 로직:
+     *    - SADD 결과가 이미 존재함이면 중복 예외를 던진다.
+     *    - Redis를 사용할 수 없으면 버퍼에 대기 중인 변경, 없으면 DB 조회(existsInDb)로 중복 여부를 판단한다.
+     *    - 추가 의도를 버퍼에 기록한다. 실제 INSERT는 InteractionWriteBuffer가 batch로 수행한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 회사 ID
+     *      existsInDb - Redis를 사용할 수 없을 때 사용할 DB 존재 여부 조회 함수
+     * 4. return: 없음
+     */
+    private void claimInteraction(InteractionType type, int userId, int companyId, BooleanSupplier existsInDb) {
+        Boolean added = userInteractionCache.add(type, userId, companyId);
+        if (Boolean.FALSE.equals(added) || (added == null && exists(type, userId, companyId, existsInDb))) {
+            throw new InteractionDuplicateException(ALREADY_EXISTS);
+        }
+        interactionWriteBuffer.record(type, userId, companyId, true);
+    }
+
+    /**
+     * 1. 메서드 설명: 상호작용을 Redis set에서 제거하여 존재 여부를 확인하고, DB 반영을 write-behind 버퍼에 기록한다.
+     * 2. 로직:
+     *    - SREM 결과가 존재하지 않음이면 UserInteractionNotFoundException을 던진다.
+     *    - Redis를 사용할 수 없으면 버퍼에 대기 중인 변경, 없으면 DB 조회(existsInDb)로 존재 여부를 판단한다.
+     *    - 삭제 의도를 버퍼에 기록한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 회사 ID
+     *      existsInDb - Redis를 사용할 수 없을 때 사용할 DB 존재 여부 조회 함수
+     *      notFoundMessage - 존재하지 않을 때의 예외 메시지
+     * 4. return: 없음
      */
-    private Company getCompanyById(Integer companyId) {
-        return companyRepository.findById(companyId)
-                .orElseThrow(() -> new CompanyNotFoundException("Company not found"));
+    private void releaseInteraction(InteractionType type, int userId, int companyId,
+                                    BooleanSupplier existsInDb, String notFoundMessage) {
+        Boolean removed = userInteractionCache.remove(type, userId, companyId);
+        if (Boolean.FALSE.equals(removed) || (removed == null && !exists(type, userId, companyId, existsInDb))) {
+            throw new UserInteractionNotFoundException(notFoundMessage);
+        }
+        interactionWriteBuffer.record(type, userId, companyId, false);
+    }
+
+    private boolean exists(InteractionType type, int userId, int companyId, BooleanSupplier existsInDb) {
+        Boolean pending = interactionWriteBuffer.pendingState(type, userId, companyId);
+        return pending != null ? pending : existsInDb.getAsBoolean();
     }
 
     /**
-     * 1. 메서드 설명: 상호작용 페이지 데이터를 기반으로 CompanyInteractionResponse 객체를 생성한다.
+     * 1. 메서드 설명: 상호작용 기업 목록을 offset 또는 cursor 방식으로 조회하여 CompanyInteractionResponse 객체를 생성한다.
      * 2. 로직:
-     *    - Page 내의 각 상호작용 엔티티에서 회사 정보를 추출한다.
-     *    - Pagination 정보를 생성한다.
-     *    - CompanyInteractionResponse 빌더를 통해 응답 객체를 생성한다.
-     * 3. param: interactionPage - 상호작용 데이터를 포함한 Page 객체
+     *    - cursor가 없으면 기존처럼 page/size로 조회하고 전체 개수를 함께 계산한다.
+     *    - cursor가 있으면 cursor의 회사 ID 다음부터 (user_id, company_id) 인덱스 순서로 size + 1건만 조회하여 다음 페이지 여부를 판단한다.
+     *      전체 개수는 includeTotal이 true일 때만 계산한다.
+     *    - 두 방식 모두 회사 ID 오름차순으로 정렬되며, 다음 페이지가 있으면 마지막 회사 ID로 nextCursor를 만든다.
+     * 3. param:
+     *      interactionGetRequest - 페이지, 사이즈, cursor 정보를 포함한 요청 객체
+     *      pageQuery - offset 방식 조회 함수
+     *      cursorQuery - (마지막 회사 ID, 조회 건수)로 다음 행들을 조회하는 함수
+     *      countQuery - 전체 개수 조회 함수
      * 4. return: CompanyInteractionResponse 객체
      */
-    private CompanyInteractionResponse buildCompanyInteractionResponse(Page<?> interactionPage) {
-        int userId = getUser().getId();
-
-        List<UserInteractionResult> results = interactionPage.stream()
-                .map(interaction -> {
-                    Company company;
-                    // 각 상호작용 타입에 따라 Company 객체 추출
-                    if (interaction instanceof UserScraps userScraps) {
-                        company = userScraps.getCompany();
-                    } else if (interaction instanceof UserLikes userLikes) {
-                        company = userLikes.getCompany();
-                    } else if (interaction instanceof UserBlacklist userBlacklist) {
-                        company = userBlacklist.getCompany();
-                    } else {
-                        throw new IllegalArgumentException("Unsupported interaction type");
-                    }
-
-                    // 스크랩 여부를 Repository를 통해 조회
-                    boolean scrapped = userScrapsRepository.existsById(new UserScrapsId(userId, company.getId()));
-
-                    // 1. fieldName: Company의 Field 엔티티에서 필드명 추출
-                    String fieldName = (company.getField() != null) ? company.getField().getFieldName() : null;
-
-                    // 2. jobNotices 조회: 해당 회사와 연결된 JobNotice들을 조회
-                    List<JobNotice> jobNotices = jobNoticeRepository.findByCompanyId(company.getId());
-
-                    // 3. techStacks: 각 JobNotice에 연결된 NoticeTechStack에서 TechStack 이름을 수집 (중복 제거)
-                    List<String> techStacks = jobNotices.stream()
-                            .flatMap(notice ->
-                                    noticeTechStackRepository.findByJobNoticeId(notice.getId()).stream()
-                                            .map(nt -> nt.getTechStack().getTechStackName())
-                            )
-                            .distinct()
-                            .toList();
-
-                    // 4. hasActiveJobNotice: 현재 시각 기준 deadline_dttm이 미래인 JobNotice가 존재하면 true
-                    boolean hasActiveJobNotice = jobNotices.stream()
-                            .anyMatch(notice -> notice.getDeadlineDttm().isAfter(LocalDateTime.now()));
-
-                    // UserInteractionResult DTO로 변환
-                    return UserInteractionResult.builder()
-                            .companyId(company.getId())
-                            .companyName(company.getCompanyName())
-                            .logo(company.getLogo())
-                            .fieldName(fieldName)
-                            .techStacks(techStacks)
-                            .hasActiveJobNotice(hasActiveJobNotice)
-                            .scrapped(scrapped)
-                            .build();
-                })
-                .toList();
+    private CompanyInteractionResponse getCompanyInteractions(InteractionGetRequest interactionGetRequest,
+                                                              Function<Pageable, Page<CompanyInteractionView>> pageQuery,
+                                                              BiFunction<Integer, Limit, List<CompanyInteractionView>> cursorQuery,
+                                                              LongSupplier countQuery) {
+        String cursor = interactionGetRequest.getCursor();
+        if (cursor == null || cursor.isBlank()) {
+            Pageable pageable = PageRequest.of(interactionGetRequest.getPage(), interactionGetRequest.getSize());
+            Page<CompanyInteractionView> interactionPage = pageQuery.apply(pageable);
+            List<CompanyInteractionView> rows = interactionPage.getContent();
+
+            Pagination pagination = Pagination.builder()
+                    .currentPage(interactionPage.getNumber())
+                    .pageSize(interactionPage.getSize())
+                    .totalPages(interactionPage.getTotalPages())
+                    .totalItems(interactionPage.getTotalElements())
+                    .hasNext(interactionPage.hasNext())
+                    .nextCursor(interactionPage.hasNext() ? encodeCursor(rows.get(rows.size() - 1).getCompanyId()) : null)
+                    .build();
+            return buildCompanyInteractionResponse(rows, pagination);
+        }
 
-        Pagination pagination = new Pagination(
-                interactionPage.getNumber(),
-                interactionPage.getSize(),
-                interactionPage.getTotalPages(),
-                interactionPage.getTotalElements()
-        );
+        int size = Math.max(1, interactionGetRequest.getSize());
+        List<CompanyInteractionView> fetched = cursorQuery.apply(decodeCursor(cursor), Limit.of(size + 1));
+        boolean hasNext = fetched.size() > size;
+        List<CompanyInteractionView> rows = hasNext ? fetched.subList(0, size) : fetched;
+
+        Long totalItems = interactionGetRequest.isIncludeTotal() ? countQuery.getAsLong() : null;
+        Pagination pagination = Pagination.builder()
+                .pageSize(size)
+                .totalItems(totalItems)
+                .totalPages(totalItems == null ? null : (int) ((totalItems + size - 1) / size))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(rows.get(rows.size() - 1).getCompanyId()) : null)
+                .build();
+        return buildCompanyInteractionResponse(rows, pagination);
+    }
+
+    /**
+     * 1. 메서드 설명: company_summary와 함께 조회한 상호작용 행들로 CompanyInteractionResponse 객체를 생성한다.
+     * 2. 로직:
+     *    - 각 행은 이미 기업명, 분야명, 기술 스택, 가장 늦은 공고 마감 시각, 스크랩 여부를 포함한다.
+     *    - company_summary 행이 아직 없는 기업이 있으면 해당 기업만 즉시 계산하여 채운다.
+     *    - 채용 중 여부는 가장 늦은 공고 마감 시각과 현재 시각을 비교하여 판단한다.
+     * 3. param:
+     *      rows - company_summary 값을 포함한 상호작용 행 목록
+     *      pagination - 응답에 포함할 페이지 정보
+     * 4. return: CompanyInteractionResponse 객체
+     */
+    private CompanyInteractionResponse buildCompanyInteractionResponse(List<CompanyInteractionView> rows, Pagination pagination) {
+        List<Integer> missingCompanyIds = rows.stream()
+                .filter(view -> view.getCompanyName() == null)
+                .map(CompanyInteractionView::getCompanyId)
+                .toList();
+        Map<Integer, CompanySummary> refreshed = missingCompanyIds.isEmpty()
+                ? Map.of()
+                : companySummaryService.refresh(missingCompanyIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserInteractionResult> results = new ArrayList<>();
+        for (CompanyInteractionView view : rows) {
+            CompanySummary summary = view.getCompanyName() != null
+                    ? CompanySummary.builder()
+                    .companyId(view.getCompanyId())
+                    .companyName(view.getCompanyName())
+                    .logo(view.getLogo())
+                    .fieldName(view.getFieldName())
+                    .techStacks(view.getTechStacks())
+                    .latestDeadlineDttm(view.getLatestDeadlineDttm())
+                    .build()
+                    : refreshed.get(view.getCompanyId());
+            if (summary == null) {
+                continue;
+            }
+            results.add(UserInteractionResult.builder()
+                    .companyId(summary.getCompanyId())
+                    .companyName(summary.getCompanyName())
+                    .logo(summary.getLogo())
+                    .fieldName(summary.getFieldName())
+                    .techStacks(CompanySummaryService.parseTechStacks(summary.getTechStacks()))
+                    .hasActiveJobNotice(summary.hasActiveJobNotice(now))
+                    .scrapped(Boolean.TRUE.equals(view.getScrapped()))
+                    .build());
+        }
 
         return CompanyInteractionResponse.builder()
                 .companies(results)
@@ -147,73 +251,73 @@ public class CompanyInteractionService {
                 .build();
     }
 
+    private static String encodeCursor(int companyId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + companyId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return Integer.parseInt(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+    }
+
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자가 스크랩한 회사 목록을 조회하고, 페이징된 응답 객체를 생성한다.
      * 2. 로직:
      *    - 현재 인증된 사용자를 조회한다.
-     *    - 사용자의 스크랩 데이터를 페이징 처리하여 조회한다.
+     *    - 사용자의 스크랩 데이터를 company_summary와 함께 page 또는 cursor 기준으로 조회한다.
      *    - 조회한 데이터를 CompanyInteractionResponse로 변환한다.
-     * 3. param: interactionGetRequest - 페이지 및 사이즈 정보를 포함한 요청 객체
+     * 3. param: interactionGetRequest - 페이지, 사이즈 및 cursor 정보를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태, 코드, 결과 및 메시지 포함)
      */
     @Transactional(readOnly = true)
     public CompanyInteractionResponse getScrapCompany(InteractionGetRequest interactionGetRequest) {
-        int userId = getUser().getId();
-        Pageable pageable = PageRequest.of(interactionGetRequest.getPage(), interactionGetRequest.getSize());
-        Page<UserScraps> userScraps = userScrapsRepository.findByUserId(userId, pageable);
-
-        return buildCompanyInteractionResponse(userScraps);
+        int userId = getUserId();
+        return getCompanyInteractions(interactionGetRequest,
+                pageable -> userScrapsRepository.findInteractionViewsByUserId(userId, pageable),
+                (afterCompanyId, limit) -> userScrapsRepository.findInteractionViewsByUserIdAfter(userId, afterCompanyId, limit),
+                () -> userScrapsRepository.countByUserId(userId));
     }
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자가 스크랩한 회사 정보를 추가하고, 응답 객체를 생성한다.
      * 2. 로직:
-     *    - 현재 인증된 사용자와 회사 정보를 조회한다.
-     *    - 중복 체크 후 스크랩 엔티티를 생성한다.
-     *    - 스크랩 엔티티를 저장하고 성공 응답을 반환한다.
+     *    - 현재 인증된 사용자 ID를 조회하고 회사 존재 여부를 확인한다.
+     *    - Redis 상호작용 set에 추가하여 중복 여부를 확인한다.
+     *    - 스크랩 추가를 write-behind 버퍼에 기록하고 DB 반영을 기다리지 않고 성공 응답을 반환한다.
      * 3. param: interactionAddRequest - 회사 ID를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태 및 성공 메시지 포함)
      */
-    @Transactional
     public MessageOnlyResponse addScrapCompany(int companyId) {
-        User user = getUser();
-        Company company = getCompanyById(companyId);
-        UserScrapsId userScrapsId = new UserScrapsId(user.getId(), company.getId());
-
-        if(userScrapsRepository.findById(userScrapsId).isPresent()){
-            throw new InteractionDuplicateException(ALREADY_EXISTS);
-        }
-
-        UserScraps userScraps = UserScraps.builder()
-                .id(userScrapsId)
-                .user(user)
-                .company(company)
-                .build();
-
-        userScrapsRepository.save(userScraps);
+        int userId = getUserId();
+        validateCompanyExists(companyId);
+        claimInteraction(InteractionType.SCRAP, userId, companyId,
+                () -> userScrapsRepository.existsById(new UserScrapsId(userId, companyId)));
         return MessageOnlyResponse.builder().message("스크랩 추가 완료").build();
     }
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자의 스크랩 목록에서 지정된 회사 정보를 삭제하고, 응답 객체를 생성한다.
      * 2. 로직:
-     *    - 현재 인증된 사용자와 회사 정보를 조회한다.
-     *    - 해당 스크랩 엔티티가 존재하는지 확인한다.
-     *    - 스크랩 엔티티를 삭제하고 성공 응답을 반환한다.
+     *    - 현재 인증된 사용자 ID를 조회한다.
+     *    - Redis 상호작용 set에서 제거하여 해당 스크랩이 존재하는지 확인한다.
+     *    - 스크랩 삭제를 write-behind 버퍼에 기록하고 성공 응답을 반환한다.
      * 3. param: interactionDeleteRequest - 삭제할 회사 ID를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태 및 성공 메시지 포함)
      */
-    @Transactional
     public MessageOnlyResponse deleteScrapCompany(int companyId) {
-        User user = getUser();
-        Company company = getCompanyById(companyId);
-        UserScrapsId userScrapsId = new UserScrapsId(user.getId(), company.getId());
-
-        UserScraps userScraps = userScrapsRepository.findById(userScrapsId)
-                .orElseThrow(() -> new UserInteractionNotFoundException("UserScraps Not Found"));
-
-        userScrapsRepository.delete(userScraps);
+        int userId = getUserId();
+        releaseInteraction(InteractionType.SCRAP, userId, companyId,
+                () -> userScrapsRepository.existsById(new UserScrapsId(userId, companyId)),
+                "UserScraps Not Found");
         return MessageOnlyResponse.builder().message("스크랩 삭제 요청 처리 완료").build();
     }
 
@@ -221,68 +325,51 @@ public class CompanyInteractionService {
      * 1. 메서드 설명: 현재 인증된 사용자가 좋아요한 회사 목록을 조회하고, 페이징된 응답 객체를 생성한다.
      * 2. 로직:
      *    - 현재 인증된 사용자를 조회한다.
-     *    - 사용자의 좋아요 데이터를 페이징 처리하여 조회한다.
+     *    - 사용자의 좋아요 데이터를 company_summary와 함께 page 또는 cursor 기준으로 조회한다.
      *    - 조회한 데이터를 CompanyInteractionResponse로 변환한다.
-     * 3. param: interactionGetRequest - 페이지 및 사이즈 정보를 포함한 요청 객체
+     * 3. param: interactionGetRequest - 페이지, 사이즈 및 cursor 정보를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태, 코드, 결과 및 메시지 포함)
      */
     @Transactional(readOnly = true)
     public CompanyInteractionResponse getMyLikeCompany(InteractionGetRequest interactionGetRequest) {
-        int userId = getUser().getId();
-        Pageable pageable = PageRequest.of(interactionGetRequest.getPage(), interactionGetRequest.getSize());
-        Page<UserLikes> userLikes = userLikesRepository.findByUserId(userId, pageable);
-
-        return buildCompanyInteractionResponse(userLikes);
+        int userId = getUserId();
+        return getCompanyInteractions(interactionGetRequest,
+                pageable -> userLikesRepository.findInteractionViewsByUserId(userId, pageable),
+                (afterCompanyId, limit) -> userLikesRepository.findInteractionViewsByUserIdAfter(userId, afterCompanyId, limit),
+                () -> userLikesRepository.countByUserId(userId));
     }
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자가 좋아요한 회사 정보를 추가하고, 응답 객체를 생성한다.
      * 2. 로직:
-     *    - 현재 인증된 사용자와 회사 정보를 조회한다.
-     *    - 중복 체크 후 좋아요 엔티티를 생성한다.
-     *    - 좋아요 엔티티를 저장하고 성공 응답을 반환한다.
+     *    - 현재 인증된 사용자 ID를 조회하고 회사 존재 여부를 확인한다.
+     *    - Redis 상호작용 set에 추가하여 중복 여부를 확인한다.
+     *    - 좋아요 추가를 write-behind 버퍼에 기록하고 DB 반영을 기다리지 않고 성공 응답을 반환한다.
      * 3. param: interactionAddRequest - 회사 ID를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태 및 성공 메시지 포함)
      */
-    @Transactional
     public MessageOnlyResponse addLikeCompany(int companyId) {
-        User user = getUser();
-        Company company = getCompanyById(companyId);
-        UserLikesId userLikesId = new UserLikesId(user.getId(), company.getId());
-
-        if (userLikesRepository.findById(userLikesId).isPresent()) {
-            throw new InteractionDuplicateException(ALREADY_EXISTS);
-        }
-
-        UserLikes userLikes = UserLikes.builder()
-                .id(userLikesId)
-                .user(user)
-                .company(company)
-                .build();
-
-        userLikesRepository.save(userLikes);
+        int userId = getUserId();
+        validateCompanyExists(companyId);
+        claimInteraction(InteractionType.LIKE, userId, companyId,
+                () -> userLikesRepository.existsById(new UserLikesId(userId, companyId)));
         return MessageOnlyResponse.builder().message("좋아요 요청 처리 완료").build();
     }
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자의 좋아요 목록에서 지정된 회사 정보를 삭제하고, 응답 객체를 생성한다.
      * 2. 로직:
-     *    - 현재 인증된 사용자와 회사 정보를 조회한다.
-     *    - 해당 좋아요 엔티티가 존재하는지 확인한다.
-     *    - 좋아요 엔티티를 삭제하고 성공 응답을 반환한다.
+     *    - 현재 인증된 사용자 ID를 조회한다.
+     *    - Redis 상호작용 set에서 제거하여 해당 좋아요가 존재하는지 확인한다.
+     *    - 좋아요 삭제를 write-behind 버퍼에 기록하고 성공 응답을 반환한다.
      * 3. param: interactionDeleteRequest - 삭제할 회사 ID를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태 및 성공 메시지 포함)
      */
-    @Transactional
     public MessageOnlyResponse deleteLikeCompany(int companyId) {
-        User user = getUser();
-        Company company = getCompanyById(companyId);
-        UserLikesId userLikesId = new UserLikesId(user.getId(), company.getId());
-
-        UserLikes userLikes = userLikesRepository.findById(userLikesId)
-                .orElseThrow(() -> new UserInteractionNotFoundException("UserLikes Not Found"));
-
-        userLikesRepository.delete(userLikes);
+        int userId = getUserId();
+        releaseInteraction(InteractionType.LIKE, userId, companyId,
+                () -> userLikesRepository.existsById(new UserLikesId(userId, companyId)),
+                "UserLikes Not Found");
         return MessageOnlyResponse.builder().message("좋아요 삭제 요청 처리 완료").build();
     }
 
@@ -290,48 +377,41 @@ public class CompanyInteractionService {
      * 1. 메서드 설명: 현재 인증된 사용자가 블랙리스트에 등록한 회사 목록을 조회하고, 페이징된 응답 객체를 생성한다.
      * 2. 로직:
      *    - 현재 인증된 사용자를 조회한다.
-     *    - 사용자의 블랙리스트 데이터를 페이징 처리하여 조회한다.
+     *    - 사용자의 블랙리스트 데이터를 company_summary와 함께 page 또는 cursor 기준으로 조회한다.
      *    - 조회한 데이터를 CompanyInteractionResponse로 변환한다.
-     * 3. param: interactionGetRequest - 페이지 및 사이즈 정보를 포함한 요청 객체
+     * 3. param: interactionGetRequest - 페이지, 사이즈 및 cursor 정보를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태, 코드, 결과 및 메시지 포함)
      */
     @Transactional(readOnly = true)
     public CompanyInteractionResponse getMyBlackList(InteractionGetRequest interactionGetRequest) {
-        int userId = getUser().getId();
-        Pageable pageable = PageRequest.of(interactionGetRequest.getPage(), interactionGetRequest.getSize());
-        Page<UserBlacklist> userBlacklist = userBlacklistRepository.findByUserId(userId, pageable);
-
-        return buildCompanyInteractionResponse(userBlacklist);
+        int userId = getUserId();
+        return getCompanyInteractions(interactionGetRequest,
+                pageable -> userBlacklistRepository.findInteractionViewsByUserId(userId, pageable),
+                (afterCompanyId, limit) -> userBlacklistRepository.findInteractionViewsByUserIdAfter(userId, afterCompanyId, limit),
+                () -> userBlacklistRepository.countByUserId(userId));
     }
 
     /**
      * 1. 메서드 설명: 현재 인증된 사용자가 블랙리스트에 등록한 회사 정보를 추가하고, 응답 객체를 생성한다.
      * 2. 로직:
-     *    - 현재 인증된 사용자와 회사 정보를 조회한다.
-     *    - 중복 체크 후 블랙리스트 엔티티를 생성한다.
-     *    - 블랙리스트 엔티티를 저장하고 성공 응답을 반환한다.
+     *    - 현재 인증된 사용자 ID를 조회하고 회사 존재 여부를 확인한다.
+     *    - Redis 상호작용 set에 추가하여 중복 여부를 확인하고 블랙리스트 추가를 write-behind 버퍼에 기록한다.
+     *    - 스크랩/좋아요 set에 있던(또는 캐시를 사용할 수 없는) 경우에만 해당 행 삭제를 버퍼에 기록한 후 성공 응답을 반환한다.
      * 3. param: interactionAddRequest - 회사 ID를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태 및 성공 메시지 포함)
      */
-    @Transactional
     public MessageOnlyResponse addMyBlackList(int companyId) {
-        User user = getUser();
-        Company company = getCompanyById(companyId);
-        UserBlacklistId userBlacklistId = new UserBlacklistId(user.getId(), company.getId());
+        int userId = getUserId();
+        validateCompanyExists(companyId);
+        claimInteraction(InteractionType.BLACKLIST, userId, companyId,
+                () -> userBlacklistRepository.existsById(new UserBlacklistId(userId, companyId)));
 
-        if (userBlacklistRepository.findById(userBlacklistId).isPresent()) {
-            throw new InteractionDuplicateException(ALREADY_EXISTS);
+        if (!Boolean.FALSE.equals(userInteractionCache.remove(InteractionType.SCRAP, userId, companyId))) {
+            interactionWriteBuffer.record(InteractionType.SCRAP, userId, companyId, false);
+        }
+        if (!Boolean.FALSE.equals(userInteractionCache.remove(InteractionType.LIKE, userId, companyId))) {
+            interactionWriteBuffer.record(InteractionType.LIKE, userId, companyId, false);
         }
-
-        UserBlacklist userBlacklist = UserBlacklist.builder()
-                .id(userBlacklistId)
-                .user(user)
-                .company(company)
-                .build();
-
-        userBlacklistRepository.save(userBlacklist);
-        userScrapsRepository.deleteById(new UserScrapsId(user.getId(), company.getId()));
-        userLikesRepository.deleteById(new UserLikesId(user.getId(), company.getId()));
 
         return MessageOnlyResponse.builder().message("차단 기업 추가 완료").build();
     }
@@ -339,22 +419,17 @@ public class CompanyInteractionService {
     /**
      * 1. 메서드 설명: 현재 인증된 사용자의 블랙리스트 목록에서 지정된 회사 정보를 삭제하고, 응답 객체를 생성한다.
      * 2. 로직:
-     *    - 현재 인증된 사용자와 회사 정보를 조회한다.
-     *    - 해당 블랙리스트 엔티티가 존재하는지 확인한다.
-     *    - 블랙리스트 엔티티를 삭제하고 성공 응답을 반환한다.
+     *    - 현재 인증된 사용자 ID를 조회한다.
+     *    - Redis 상호작용 set에서 제거하여 해당 블랙리스트가 존재하는지 확인한다.
+     *    - 블랙리스트 삭제를 write-behind 버퍼에 기록하고 성공 응답을 반환한다.
      * 3. param: interactionDeleteRequest - 삭제할 회사 ID를 포함한 요청 객체
      * 4. return: ApiResponse 객체 (상태 및 성공 메시지 포함)
      */
-    @Transactional
     public MessageOnlyResponse deleteMyBlackList(int companyId) {
-        User user = getUser();
-        Company company = getCompanyById(companyId);
-        UserBlacklistId userBlacklistId = new UserBlacklistId(user.getId(), company.getId());
-
-        UserBlacklist userBlacklist = userBlacklistRepository.findById(userBlacklistId)
-                .orElseThrow(() -> new UserInteractionNotFoundException("UserBlacklist Not Found"));
-
-        userBlacklistRepository.delete(userBlacklist);
+        int userId = getUserId();
+        releaseInteraction(InteractionType.BLACKLIST, userId, companyId,
+                () -> userBlacklistRepository.existsById(new UserBlacklistId(userId, companyId)),
+                "UserBlacklist Not Found");
         return MessageOnlyResponse.builder().message("차단 기업 삭제 요청 처리 완료").build();
     }
 }
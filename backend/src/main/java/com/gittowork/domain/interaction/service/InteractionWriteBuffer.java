@@ -0,0 +1,176 @@
+package com.gittowork.domain.interaction.service;
+
+import com.gittowork.domain.interaction.model.InteractionType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스크랩/좋아요/차단 토글을 모아 MySQL에 batch로 반영하는 write-behind 버퍼.
+ * - (상호작용 종류, 사용자, 기업)별로 마지막 의도(추가/삭제)만 보관하며, 반대 방향 토글이 들어오면 서로 상쇄되어 DB에 아무것도 쓰지 않는다.
+ * - 짧은 주기 또는 대기 건수가 임계값을 넘으면 종류별 INSERT IGNORE / DELETE JDBC batch로 반영한다.
+ * - 같은 사용자의 토글이 여러 인스턴스에 나뉘어 기록될 수 있으므로, 반영할 값은 로컬 의도가 아니라 flush 시점의 공유 Redis set 상태로 정한다.
+ *   어느 인스턴스가 나중에 flush하더라도 DB는 Redis set과 같은 최종 상태가 된다. set이 없거나 Redis를 사용할 수 없을 때만 로컬 의도를 쓴다.
+ * - batch가 실패하면 행 단위로 다시 시도하고, 그래도 실패한 행은 버리고 해당 사용자의 상호작용 캐시를 비워 DB 기준으로 다시 읽게 한다.
+ * - 버퍼는 인스턴스 메모리에 있으므로 종료 시 남은 변경을 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InteractionWriteBuffer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserInteractionCache userInteractionCache;
+
+    private final Map<PendingKey, Boolean> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Value("${interaction.write-behind.flush-threshold:500}")
+    private int flushThreshold;
+
+    private ExecutorService flushExecutor;
+
+    @PostConstruct
+    public void init() {
+        flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interaction-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    /**
+     * 1. 메서드 설명: 상호작용 추가/삭제 의도를 버퍼에 기록한다.
+     * 2. 로직:
+     *    - 같은 키에 반대 방향의 변경이 대기 중이면 둘 다 제거하여 상쇄한다.
+     *    - 대기 건수가 임계값 이상이면 별도 스레드에서 즉시 반영을 시작한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 기업 ID
+     *      present - true면 추가, false면 삭제
+     * 4. return: 없음
+     */
+    public void record(InteractionType type, int userId, int companyId, boolean present) {
+        pending.merge(new PendingKey(type, userId, companyId), present,
+                (previous, next) -> previous.equals(next) ? next : null);
+        if (pending.size() >= flushThreshold) {
+            try {
+                flushExecutor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                log.debug("Interaction write-behind flush already shutting down");
+            }
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 아직 DB에 반영되지 않은 상호작용 상태를 조회한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 기업 ID
+     * 4. return: 대기 중인 변경이 있으면 추가(true)/삭제(false), 없으면 null
+     */
+    public Boolean pendingState(InteractionType type, int userId, int companyId) {
+        return pending.get(new PendingKey(type, userId, companyId));
+    }
+
+    /**
+     * 1. 메서드 설명: 대기 중인 변경을 상호작용 종류별 JDBC batch로 DB에 반영한다.
+     * 2. 로직:
+     *    - 한 번에 하나의 flush만 실행되도록 lock을 잡고, 현재 대기 중인 키를 하나씩 원자적으로 꺼내 (종류, 사용자)별로 묶는다.
+     *    - 묶음마다 Redis set에서 기업별 존재 여부를 한 번에 조회하여 최종 상태를 정하고, 조회할 수 없으면 로컬 의도를 사용한다.
+     *    - 종류별로 INSERT IGNORE와 DELETE batch를 실행한다.
+     * 3. param: 없음
+     * 4. return: 없음
+     */
+    @Scheduled(fixedDelayString = "${interaction.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<UserKey, Map<Integer, Boolean>> intents = new HashMap<>();
+            for (PendingKey key : pending.keySet()) {
+                Boolean present = pending.remove(key);
+                if (present == null) {
+                    continue;
+                }
+                intents.computeIfAbsent(new UserKey(key.type(), key.userId()), userKey -> new LinkedHashMap<>())
+                        .put(key.companyId(), present);
+            }
+
+            Map<InteractionType, List<PendingKey>> inserts = new EnumMap<>(InteractionType.class);
+            Map<InteractionType, List<PendingKey>> deletes = new EnumMap<>(InteractionType.class);
+            intents.forEach((userKey, companyIntents) -> {
+                Map<Integer, Boolean> shared = userInteractionCache.membership(
+                        userKey.type(), userKey.userId(), new ArrayList<>(companyIntents.keySet()));
+                companyIntents.forEach((companyId, intent) -> {
+                    boolean present = shared != null ? shared.getOrDefault(companyId, intent) : intent;
+                    (present ? inserts : deletes).computeIfAbsent(userKey.type(), type -> new ArrayList<>())
+                            .add(new PendingKey(userKey.type(), userKey.userId(), companyId));
+                });
+            });
+
+            inserts.forEach((type, keys) -> execute(
+                    "INSERT IGNORE INTO " + type.getTableName() + " (user_id, company_id) VALUES (?, ?)", keys));
+            deletes.forEach((type, keys) -> execute(
+                    "DELETE FROM " + type.getTableName() + " WHERE user_id = ? AND company_id = ?", keys));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void execute(String sql, List<PendingKey> keys) {
+        try {
+            jdbcTemplate.batchUpdate(sql, keys, keys.size(), (statement, key) -> {
+                statement.setInt(1, key.userId());
+                statement.setInt(2, key.companyId());
+            });
+            log.debug("Flushed {} interaction writes: {}", keys.size(), sql);
+        } catch (DataAccessException e) {
+            log.warn("Interaction batch write failed, retrying row by row: {}", e.getMessage());
+            for (PendingKey key : keys) {
+                try {
+                    jdbcTemplate.update(sql, key.userId(), key.companyId());
+                } catch (DataAccessException rowFailure) {
+                    log.error("Dropping interaction write {} for user {} company {}: {}",
+                            key.type(), key.userId(), key.companyId(), rowFailure.getMessage());
+                    userInteractionCache.evict(key.type(), key.userId());
+                }
+            }
+        }
+    }
+
+    private record PendingKey(InteractionType type, int userId, int companyId) {
+    }
+
+    private record UserKey(InteractionType type, int userId) {
+    }
+}
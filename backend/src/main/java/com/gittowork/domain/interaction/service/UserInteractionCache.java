@@ -0,0 +1,238 @@
+package com.gittowork.domain.interaction.service;
+
+import com.gittowork.domain.interaction.model.InteractionType;
+import com.gittowork.domain.interaction.repository.UserBlacklistRepository;
+import com.gittowork.domain.interaction.repository.UserLikesRepository;
+import com.gittowork.domain.interaction.repository.UserScrapsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별, 상호작용 종류별 기업 ID 집합을 보관하는 Redis set 캐시.
+ * - 조회/추가/삭제는 Lua script 하나로 키 존재 확인, SISMEMBER/SADD/SREM, TTL 갱신을 원자적으로 수행한다. 키가 없으면 -1을 반환한다.
+ * - 키가 없을 때는 DB에서 해당 사용자의 기업 ID 목록을 읽어 임시 키에 sentinel 멤버와 함께 채운 후 RENAME한다.
+ *   이 적재도 키가 여전히 없을 때만 수행하므로, 먼저 적재된 set과 그 이후의 변경을 오래된 DB 조회 결과로 덮어쓰지 않는다.
+ * - 추가/삭제는 SADD/SREM의 반환값으로 존재 여부 확인과 변경을 한 번에 처리하여, 같은 요청이 동시에 들어와도 한 요청만 성공한다.
+ * - Redis 호출이 실패하면 null을 반환하여 호출자가 DB로 판단하도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserInteractionCache {
+
+    private static final String INTERACTION_KEY_PREFIX = "interaction:";
+    private static final String USER_ID_KEY_PREFIX = "interaction:user-id:";
+    private static final String LOADED_SENTINEL = "-";
+    private static final long NOT_LOADED = -1L;
+
+    private static final DefaultRedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local result = redis.call(ARGV[1], KEYS[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return result", Long.class);
+
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "for i = 2, #ARGV, 1000 do " +
+            "redis.call('SADD', KEYS[2], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('RENAME', KEYS[2], KEYS[1]) " +
+            "return 1", Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> MEMBERSHIP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "local result = {} " +
+            "for i = 1, #ARGV do result[i] = redis.call('SISMEMBER', KEYS[1], ARGV[i]) end " +
+            "return result", List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserScrapsRepository userScrapsRepository;
+    private final UserLikesRepository userLikesRepository;
+    private final UserBlacklistRepository userBlacklistRepository;
+
+    @Value("${interaction.cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    /**
+     * 1. 메서드 설명: 사용자가 해당 기업과 주어진 상호작용을 가지고 있는지 확인한다.
+     * 2. 로직:
+     *    - set이 없으면 DB에서 채운 후 SISMEMBER로 확인하고 TTL을 갱신한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 기업 ID
+     * 4. return: 존재 여부. Redis를 사용할 수 없으면 null.
+     */
+    public Boolean contains(InteractionType type, int userId, int companyId) {
+        try {
+            return apply(type, userId, "SISMEMBER", companyId) > 0;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read interaction cache {}:{}: {}", type, userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 상호작용을 set에 추가한다.
+     * 2. 로직:
+     *    - set이 없으면 DB에서 채운 후 SADD를 수행하고 TTL을 갱신한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 기업 ID
+     * 4. return: 새로 추가되었으면 true, 이미 있었으면 false. Redis를 사용할 수 없으면 null.
+     */
+    public Boolean add(InteractionType type, int userId, int companyId) {
+        try {
+            return apply(type, userId, "SADD", companyId) > 0;
+        } catch (RuntimeException e) {
+            log.warn("Failed to add to interaction cache {}:{}: {}", type, userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 상호작용을 set에서 제거한다.
+     * 2. 로직:
+     *    - set이 없으면 DB에서 채운 후 SREM을 수행하고 TTL을 갱신한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyId - 기업 ID
+     * 4. return: 제거되었으면 true, 없었으면 false. Redis를 사용할 수 없으면 null.
+     */
+    public Boolean remove(InteractionType type, int userId, int companyId) {
+        try {
+            return apply(type, userId, "SREM", companyId) > 0;
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove from interaction cache {}:{}: {}", type, userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 여러 기업에 대한 상호작용 존재 여부를 set에서 한 번에 조회한다.
+     * 2. 로직:
+     *    - set이 없으면 DB에서 채우지 않고 null을 반환한다. (write-behind flush에서 DB 상태로 set을 만들면 순환하므로)
+     *    - TTL은 갱신하지 않는다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     *      companyIds - 조회할 기업 ID 목록
+     * 4. return: 기업 ID별 존재 여부. set이 없거나 Redis를 사용할 수 없으면 null.
+     */
+    public Map<Integer, Boolean> membership(InteractionType type, int userId, List<Integer> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Object[] args = companyIds.stream().map(String::valueOf).toArray();
+            List<?> result = redisTemplate.execute(MEMBERSHIP_SCRIPT, List.of(key(type, userId)), args);
+            if (result == null || result.size() != companyIds.size()) {
+                return null;
+            }
+            Map<Integer, Boolean> membership = new HashMap<>();
+            for (int i = 0; i < companyIds.size(); i++) {
+                membership.put(companyIds.get(i), ((Number) result.get(i)).longValue() > 0);
+            }
+            return membership;
+        } catch (RuntimeException e) {
+            log.warn("Failed to read interaction cache membership {}:{}: {}", type, userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자의 set을 삭제하여 다음 조회 시 DB에서 다시 채우도록 한다.
+     * 2. 로직:
+     *    - DB 반영이 실패하여 캐시와 DB가 어긋났을 때 호출한다.
+     * 3. param:
+     *      type - 상호작용 종류
+     *      userId - 사용자 ID
+     * 4. return: 없음
+     */
+    public void evict(InteractionType type, int userId) {
+        try {
+            redisTemplate.delete(key(type, userId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict interaction cache {}:{}: {}", type, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub 사용자명에 해당하는 사용자 ID를 캐시에서 조회하고, 없으면 loader로 조회하여 저장한다.
+     * 2. 로직:
+     *    - 사용자 ID는 변경되지 않으므로 TTL 동안 캐시된 값을 그대로 사용한다.
+     * 3. param:
+     *      githubName - GitHub 사용자명
+     *      loader - 캐시에 없을 때 사용자 ID를 조회하는 함수
+     * 4. return: 사용자 ID
+     */
+    public int resolveUserId(String githubName, Supplier<Integer> loader) {
+        String key = USER_ID_KEY_PREFIX + githubName;
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Integer.parseInt(cached.toString());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to read user id cache for {}: {}", githubName, e.getMessage());
+        }
+
+        int userId = loader.get();
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(userId), Duration.ofMinutes(ttlMinutes));
+        } catch (RuntimeException e) {
+            log.warn("Failed to write user id cache for {}: {}", githubName, e.getMessage());
+        }
+        return userId;
+    }
+
+    private long apply(InteractionType type, int userId, String command, int companyId) {
+        String key = key(type, userId);
+        String ttlMillis = String.valueOf(Duration.ofMinutes(ttlMinutes).toMillis());
+        Long result = redisTemplate.execute(APPLY_SCRIPT, List.of(key), command, String.valueOf(companyId), ttlMillis);
+        if (result == null || result == NOT_LOADED) {
+            load(type, userId, key, ttlMillis);
+            result = redisTemplate.execute(APPLY_SCRIPT, List.of(key), command, String.valueOf(companyId), ttlMillis);
+        }
+        if (result == null || result == NOT_LOADED) {
+            throw new IllegalStateException("Interaction cache " + key + " was evicted while loading");
+        }
+        return result;
+    }
+
+    private void load(InteractionType type, int userId, String key, String ttlMillis) {
+        List<Integer> companyIds = switch (type) {
+            case SCRAP -> userScrapsRepository.findCompanyIdsByUserId(userId);
+            case LIKE -> userLikesRepository.findCompanyIdsByUserId(userId);
+            case BLACKLIST -> userBlacklistRepository.findCompanyIdsByUserId(userId);
+        };
+        Object[] args = new Object[companyIds.size() + 2];
+        args[0] = ttlMillis;
+        args[1] = LOADED_SENTINEL;
+        for (int i = 0; i < companyIds.size(); i++) {
+            args[i + 2] = String.valueOf(companyIds.get(i));
+        }
+        String loadingKey = key + ":loading:" + UUID.randomUUID();
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key, loadingKey), args);
+    }
+
+    private static String key(InteractionType type, int userId) {
+        return INTERACTION_KEY_PREFIX + type.getKey() + ":" + userId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.gittowork.domain.jobnotice.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기업별 가장 늦은 채용 공고 마감 시각 projection.
+ */
+public interface CompanyDeadlineView {
+
+    Integer getCompanyId();
+
+    LocalDateTime getLatestDeadlineDttm();
+
+}
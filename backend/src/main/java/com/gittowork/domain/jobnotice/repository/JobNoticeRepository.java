@@ -1,10 +1,19 @@
 package com.gittowork.domain.jobnotice.repository;
 
+import com.gittowork.domain.jobnotice.dto.projection.CompanyDeadlineView;
 import com.gittowork.domain.jobnotice.entity.JobNotice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface JobNoticeRepository extends JpaRepository<JobNotice, Integer> {
     List<JobNotice> findByCompanyId(Integer companyId);
+
+    @Query("select n.company.id as companyId, max(n.deadlineDttm) as latestDeadlineDttm from JobNotice n " +
+            "where n.company.id in :companyIds " +
+            "group by n.company.id")
+    List<CompanyDeadlineView> findLatestDeadlinesByCompanyIdIn(@Param("companyIds") Collection<Integer> companyIds);
 }
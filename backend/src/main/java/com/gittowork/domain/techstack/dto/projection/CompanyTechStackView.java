@@ -0,0 +1,12 @@
+package com.gittowork.domain.techstack.dto.projection;
+
+/**
+ * 기업별 채용 공고에 연결된 기술 스택 이름 projection.
+ */
+public interface CompanyTechStackView {
+
+    Integer getCompanyId();
+
+    String getTechStackName();
+
+}
@@ -1,10 +1,21 @@
 package com.gittowork.domain.techstack.repository;
 
+import com.gittowork.domain.techstack.dto.projection.CompanyTechStackView;
 import com.gittowork.domain.techstack.entity.NoticeTechStack;
 import com.gittowork.domain.techstack.entity.NoticeTechStackId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface NoticeTechStackRepository extends JpaRepository<NoticeTechStack, NoticeTechStackId> {
     List<NoticeTechStack> findByJobNoticeId(Integer jobNoticeId);
+
+    @Query("select n.company.id as companyId, t.techStackName as techStackName " +
+            "from NoticeTechStack nts join nts.jobNotice n join nts.techStack t " +
+            "where n.company.id in :companyIds " +
+            "order by n.id, t.id")
+    List<CompanyTechStackView> findTechStacksByCompanyIdIn(@Param("companyIds") Collection<Integer> companyIds);
 }
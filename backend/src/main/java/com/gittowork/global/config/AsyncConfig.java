@@ -0,0 +1,101 @@
+package com.gittowork.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 작업 종류별로 분리된 bounded executor 설정.
+ * - GitHub 수집, 코드 분석, LLM/PDF 작업이 서로의 스레드와 대기열을 점유하지 않도록 pool을 나눈다.
+ * - 대기열이 가득 차면 AbortPolicy로 TaskRejectedException을 호출자에게 던져, 작업이 조용히 버려지지 않게 한다.
+ * - @Scheduled 작업은 기본 단일 스레드 대신 전용 scheduler pool에서 실행되어, 긴 재구성 작업이 분석 작업 heartbeat를 막지 않게 한다.
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String GITHUB_INGESTION_EXECUTOR = "githubIngestionExecutor";
+    public static final String CODE_ANALYSIS_EXECUTOR = "codeAnalysisExecutor";
+    public static final String LLM_EXECUTOR = "llmExecutor";
+    public static final String TASK_SCHEDULER = "taskScheduler";
+
+    @Value("${github.ingestion.pool-size:16}")
+    private int ingestionPoolSize;
+
+    @Value("${github.ingestion.queue-capacity:500}")
+    private int ingestionQueueCapacity;
+
+    @Value("${github.analysis.pool-size:4}")
+    private int analysisPoolSize;
+
+    @Value("${github.analysis.queue-capacity:20}")
+    private int analysisQueueCapacity;
+
+    @Value("${llm.async.pool-size:8}")
+    private int llmPoolSize;
+
+    @Value("${llm.async.queue-capacity:100}")
+    private int llmQueueCapacity;
+
+    @Value("${spring.task.scheduling.pool.size:8}")
+    private int schedulingPoolSize;
+
+    @Bean(name = GITHUB_INGESTION_EXECUTOR)
+    public ThreadPoolTaskExecutor githubIngestionExecutor() {
+        return boundedExecutor("github-ingest-", ingestionPoolSize, ingestionQueueCapacity);
+    }
+
+    @Bean(name = CODE_ANALYSIS_EXECUTOR)
+    public ThreadPoolTaskExecutor codeAnalysisExecutor() {
+        return boundedExecutor("code-analysis-", analysisPoolSize, analysisQueueCapacity);
+    }
+
+    @Bean(name = LLM_EXECUTOR)
+    public ThreadPoolTaskExecutor llmExecutor() {
+        return boundedExecutor("llm-", llmPoolSize, llmQueueCapacity);
+    }
+
+    /**
+     * 1. 메서드 설명: @Scheduled 메서드가 공유하는 scheduler pool을 생성한다.
+     * 2. 로직:
+     *    - 스케줄 작업(분석 작업 polling/heartbeat, 기업 요약 재구성, 상호작용 flush 등)이 서로를 지연시키지 않도록 여러 스레드를 둔다.
+     *    - 종료 시 실행 중인 스케줄 작업이 끝날 때까지 기다린다.
+     * 3. param: 없음
+     * 4. return: ThreadPoolTaskScheduler
+     */
+    @Bean(name = TASK_SCHEDULER)
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setPoolSize(schedulingPoolSize);
+        scheduler.setErrorHandler(throwable -> log.error("Scheduled task failed: {}", throwable.getMessage(), throwable));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (throwable, method, params) ->
+                log.error("Async method {} failed: {}", method.getName(), throwable.getMessage(), throwable);
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
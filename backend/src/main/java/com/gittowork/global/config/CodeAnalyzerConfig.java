@@ -0,0 +1,21 @@
+package com.gittowork.global.config;
+
+import com.gittowork.domain.github.service.CodeAnalyzer;
+import com.gittowork.domain.github.service.PmdCodeAnalyzer;
+import com.gittowork.domain.github.service.SonarScannerCodeAnalyzer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class CodeAnalyzerConfig {
+
+    @Bean
+    @Primary
+    public CodeAnalyzer codeAnalyzer(@Value("${github.analysis.engine:subprocess}") String engine,
+                                     SonarScannerCodeAnalyzer sonarScannerCodeAnalyzer,
+                                     PmdCodeAnalyzer pmdCodeAnalyzer) {
+        return "in-process".equalsIgnoreCase(engine) ? pmdCodeAnalyzer : sonarScannerCodeAnalyzer;
+    }
+}
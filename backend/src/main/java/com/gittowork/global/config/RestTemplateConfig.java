@@ -1,5 +1,6 @@
 package com.gittowork.global.config;
 
+import com.gittowork.global.service.GithubRequestScheduler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -8,8 +9,10 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(GithubRequestScheduler githubRequestScheduler) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(githubRequestScheduler);
+        return restTemplate;
     }
 
 }
@@ -0,0 +1,7 @@
+package com.gittowork.global.exception;
+
+public class GithubRateLimitExceededException extends RuntimeException {
+    public GithubRateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gittowork.global.exception;
+
+public class LlmGatewayBusyException extends RuntimeException {
+    public LlmGatewayBusyException(String message) {
+        super(message);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -22,7 +23,8 @@ public class GlobalExceptionHandler {
         UNAUTHORIZED("UR", "Unauthorized."),
         DUPLICATE("DP", "Duplicate entry"),
         INTERNAL_SERVER_ERROR("ES", "Internal Server Error."),
-        INVALID_ARGUMENT("INA", "Invalid argument"),;
+        INVALID_ARGUMENT("INA", "Invalid argument"),
+        SERVICE_UNAVAILABLE("SU", "Service unavailable."),;
 
         private final String code;
         private final String message;
@@ -215,6 +217,13 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_ARGUMENT.getCode(), message);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(InvalidCursorException e) {
+        log.warn("Invalid pagination cursor: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.INVALID_ARGUMENT.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ErrorCode.INVALID_ARGUMENT.getCode(), message);
+    }
+
     @ExceptionHandler(FirebaseMessageException.class)
     public ResponseEntity<ErrorResponse> exceptionHandler(FirebaseMessageException e) {
         log.warn("FirebaseMessageException: {}", e.getMessage());
@@ -228,4 +237,24 @@ public class GlobalExceptionHandler {
         String message = e.getMessage() == null ? ErrorCode.NOT_FOUND.getMessage() : e.getMessage();
         return buildErrorResponse(HttpStatus.NOT_FOUND, ErrorCode.NOT_FOUND.getCode(), message);
     }
+
+    @ExceptionHandler(GithubRateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(GithubRateLimitExceededException e) {
+        log.warn("GitHub rate limit wait exceeded: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.SERVICE_UNAVAILABLE.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    @ExceptionHandler(LlmGatewayBusyException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(LlmGatewayBusyException e) {
+        log.warn("LLM gateway busy: {}", e.getMessage());
+        String message = e.getMessage() == null ? ErrorCode.SERVICE_UNAVAILABLE.getMessage() : e.getMessage();
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), message);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> exceptionHandler(TaskRejectedException e) {
+        log.warn("Async task rejected: {}", e.getMessage());
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.SERVICE_UNAVAILABLE.getCode(), ErrorCode.SERVICE_UNAVAILABLE.getMessage());
+    }
 }
@@ -0,0 +1,163 @@
+package com.gittowork.global.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * commit 상세 API(/repos/{owner}/{repo}/commits/{sha}) 호출을 제한된 동시성으로 병렬 수행하는 fetcher.
+ * GraphQL Commit 객체는 변경 파일 목록을 제공하지 않으므로 REST 상세 호출을 유지하되, 순차 N+1 대신 고정 크기 pool에서 처리한다.
+ * - 같은 access token의 상세 호출은 GithubIngestionEngine lane과 같은 한도(max-concurrency-per-token)까지만 동시에 실행된다.
+ * - 한도를 넘는 호출은 token별 대기열에 두고, 호출 하나가 끝날 때마다 다음 호출을 pool 대기열 끝에 제출하여
+ *   커밋이 많은 repository 하나가 pool을 독점하지 않고 다른 token의 호출과 번갈아 실행되도록 한다.
+ */
+@Slf4j
+@Service
+public class GithubCommitDetailFetcher {
+
+    @Value("${github.commit-detail.pool-size:8}")
+    private int poolSize;
+
+    @Value("${github.ingestion.max-concurrency-per-token:4}")
+    private int maxConcurrencyPerToken;
+
+    private final Map<String, TokenLane> lanes = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "github-commit-detail-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 1. 메서드 설명: 주어진 commit SHA 목록에 대해 상세 정보를 병렬로 조회하여 SHA별 변경 파일 목록을 반환한다.
+     * 2. 로직:
+     *    - 각 SHA에 대한 detailLoader 호출을 access token lane에 제출하고, 모든 호출이 끝날 때까지 기다린다.
+     *    - 하나라도 실패하면 아직 실행되지 않은 호출은 건너뛰고 원인 예외를 그대로 전파한다.
+     *    - 결과 Map은 입력 SHA 순서를 유지한다.
+     * 3. param:
+     *      String accessToken - 호출에 사용하는 access token. (동시 실행 수 제한 단위)
+     *      List<String> shas - 상세 정보를 조회할 commit SHA 목록.
+     *      Function<String, List<String>> detailLoader - SHA를 받아 변경 파일 목록을 반환하는 함수.
+     * 4. return: SHA별 변경 파일 목록 Map.
+     */
+    public Map<String, List<String>> fetchAll(String accessToken, List<String> shas, Function<String, List<String>> detailLoader) {
+        String laneKey = GithubRequestScheduler.tokenKey(accessToken);
+        Map<String, CompletableFuture<List<String>>> futures = new LinkedHashMap<>();
+        for (String sha : shas) {
+            CompletableFuture<List<String>> future = new CompletableFuture<>();
+            futures.put(sha, future);
+            submit(laneKey, () -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(GithubRequestScheduler.runInBackground(() -> detailLoader.apply(sha)));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        }
+
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).join();
+            futures.forEach((sha, future) -> result.put(sha, future.join()));
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * 1. 메서드 설명: 상세 호출을 access token lane에 제출한다.
+     * 2. 로직:
+     *    - lane의 실행 중 호출 수가 한도보다 작으면 pool에 바로 제출하고, 그렇지 않으면 lane 대기열에 넣는다.
+     * 3. param:
+     *      String laneKey - access token 해시.
+     *      Runnable task - 실행할 호출.
+     * 4. return: 없음.
+     */
+    private void submit(String laneKey, Runnable task) {
+        boolean[] start = new boolean[1];
+        lanes.compute(laneKey, (key, lane) -> {
+            TokenLane target = lane == null ? new TokenLane() : lane;
+            if (target.running < maxConcurrencyPerToken) {
+                target.running++;
+                start[0] = true;
+            } else {
+                target.waiting.add(task);
+            }
+            return target;
+        });
+        if (start[0]) {
+            executor.execute(() -> run(laneKey, task));
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 호출을 실행한 후, 같은 lane의 대기 호출이 있으면 pool 대기열 끝에 다시 제출한다.
+     * 2. 로직:
+     *    - 대기 호출이 없으면 lane의 실행 수를 줄이고, 0이 되면 lane을 제거한다.
+     * 3. param:
+     *      String laneKey - access token 해시.
+     *      Runnable task - 실행할 호출.
+     * 4. return: 없음.
+     */
+    private void run(String laneKey, Runnable task) {
+        try {
+            task.run();
+        } finally {
+            Runnable[] next = new Runnable[1];
+            lanes.computeIfPresent(laneKey, (key, lane) -> {
+                next[0] = lane.waiting.poll();
+                if (next[0] != null) {
+                    return lane;
+                }
+                lane.running--;
+                return lane.running == 0 ? null : lane;
+            });
+            if (next[0] != null) {
+                executor.execute(() -> run(laneKey, next[0]));
+            }
+        }
+    }
+
+    /**
+     * access token 하나의 상세 호출 실행 수와 대기열. ConcurrentHashMap.compute 안에서만 접근한다.
+     */
+    private static final class TokenLane {
+        private int running;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+    }
+}
@@ -0,0 +1,235 @@
+package com.gittowork.global.service;
+
+import com.gittowork.domain.github.entity.GithubRepository;
+import com.gittowork.domain.github.model.repository.Repository;
+import com.gittowork.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * GitHub 데이터 수집(repository, commit, language, issue, pull request)을 repository × 리소스 단위 작업으로 분할하여
+ * 병렬로 수행하는 엔진.
+ * - 동일한 access token으로 동시에 실행되는 요청 수는 token 단위 lane으로 제한한다.
+ * - 사용자별로 진행 중인 수집 작업을 CompletableFuture barrier로 관리하여, 분석 로직이 수집 완료를 기다릴 수 있게 한다.
+ *   barrier는 인스턴스 메모리에만 있으므로 같은 인스턴스에서 시작된 수집에만 적용된다.
+ */
+@Slf4j
+@Service
+public class GithubIngestionEngine {
+
+    private final GithubRestApiService githubRestApiService;
+    private final TaskExecutor executor;
+
+    private final Map<String, TokenLane> lanes = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${github.ingestion.max-concurrency-per-token:4}")
+    private int maxConcurrencyPerToken;
+
+    @Autowired
+    public GithubIngestionEngine(GithubRestApiService githubRestApiService,
+                                 @Qualifier(AsyncConfig.GITHUB_INGESTION_EXECUTOR) TaskExecutor executor) {
+        this.githubRestApiService = githubRestApiService;
+        this.executor = executor;
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자의 GitHub 데이터 수집을 비동기로 시작하고, 완료 시점을 나타내는 CompletableFuture를 반환한다.
+     * 2. 로직:
+     *    - 동일 사용자에 대해 이미 진행 중인 수집이 있으면 새로 시작하지 않고 기존 future를 반환한다.
+     *    - repository 목록을 먼저 저장한 후, 각 repository에 대해 commit, language, issue, pull request 수집 작업을 fan-out한다.
+     *    - 모든 작업이 끝나면(allOf barrier) 이벤트 동기화를 수행하고, 사용자 진행 상태에서 제거한다.
+     *    - 개별 repository 작업의 실패는 로그로 남기고 나머지 작업은 계속 진행한다.
+     * 3. param:
+     *      String accessToken - GitHub API 접근에 사용되는 access token.
+     *      String userName - GitHub 사용자 이름.
+     *      int userId - 로컬 사용자 식별자.
+     * 4. return: 수집 완료 시 완료되는 CompletableFuture<Void>.
+     */
+    public CompletableFuture<Void> ingest(String accessToken, String userName, int userId) {
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(userId, barrier);
+        if (existing != null) {
+            log.info("{}: Github ingestion already in progress", userName);
+            return existing;
+        }
+
+        submit(accessToken, () -> githubRestApiService.saveUserGithubRepository(accessToken, userName, userId))
+                .thenCompose(githubRepository -> fanOut(accessToken, userName, userId, githubRepository))
+                .thenCompose(repoNames -> submit(accessToken,
+                        () -> githubRestApiService.checkNewGithubEvents(accessToken, userName, userId, repoNames)))
+                .whenComplete((result, throwable) -> {
+                    inFlight.remove(userId, barrier);
+                    if (throwable != null) {
+                        log.error("{}: Github ingestion failed", userName, throwable);
+                        barrier.completeExceptionally(throwable);
+                    } else {
+                        log.info("{}: Github repository info saved", userName);
+                        barrier.complete(null);
+                    }
+                });
+        return barrier;
+    }
+
+    /**
+     * 1. 메서드 설명: 사용자에 대해 진행 중인 수집 작업이 있으면 완료될 때까지 대기한다.
+     * 2. 로직:
+     *    - inFlight에 등록된 future가 없으면 즉시 반환한다.
+     *    - 수집 실패는 분석을 막지 않도록 로그만 남긴다.
+     *    - inFlight는 이 인스턴스의 메모리에만 있는 barrier이므로, 다른 인스턴스에서 시작된 수집이나 재기동 전에 중단된 수집은 기다리지 않는다.
+     *      (분석 작업이 다른 인스턴스의 작업자에서 실행되면 수집이 끝나기 전의 데이터로 분석할 수 있다.)
+     * 3. param:
+     *      int userId - 로컬 사용자 식별자.
+     * 4. return: 없음.
+     */
+    public void awaitCompletion(int userId) {
+        CompletableFuture<Void> future = inFlight.get(userId);
+        if (future == null) {
+            return;
+        }
+        try {
+            future.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Github ingestion for userId {} finished with error: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 저장된 repository 각각에 대해 리소스별 수집 작업을 병렬로 제출하고, 모든 작업이 끝나면 완료되는 future를 반환한다.
+     * 2. 로직:
+     *    - repository × (commit, language, issue, pull request) 작업을 token lane에 제출한다.
+     *    - 실패한 작업은 로그를 남긴 후 정상 완료로 처리하여 barrier가 끝까지 진행되도록 한다.
+     * 3. param:
+     *      String accessToken - GitHub API 접근에 사용되는 access token.
+     *      String userName - GitHub 사용자 이름.
+     *      int userId - 로컬 사용자 식별자.
+     *      GithubRepository githubRepository - 저장된 사용자 repository Document.
+     * 4. return: 모든 작업 완료 후 repository 이름 목록을 담은 CompletableFuture.
+     */
+    private CompletableFuture<List<String>> fanOut(String accessToken, String userName, int userId, GithubRepository githubRepository) {
+        List<Repository> repositories = githubRepository.getRepositories();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(repositories.size() * 4);
+        List<String> repoNames = new ArrayList<>(repositories.size());
+
+        for (Repository repository : repositories) {
+            repoNames.add(repository.getRepoName());
+            tasks.add(submitTask(accessToken, "commits", repository,
+                    () -> githubRestApiService.saveRepositoryCommits(accessToken, userName, userId, repository)));
+            tasks.add(submitTask(accessToken, "languages", repository,
+                    () -> githubRestApiService.saveRepositoryLanguage(accessToken, userName, userId, repository)));
+            tasks.add(submitTask(accessToken, "issues", repository,
+                    () -> githubRestApiService.saveRepositoryIssues(accessToken, userName, repository)));
+            tasks.add(submitTask(accessToken, "pull requests", repository,
+                    () -> githubRestApiService.saveRepositoryPullRequests(accessToken, userName, repository)));
+        }
+
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> repoNames);
+    }
+
+    private CompletableFuture<Void> submitTask(String accessToken, String resource, Repository repository, Runnable task) {
+        return this.<Void>submit(accessToken, () -> {
+                    task.run();
+                    return null;
+                })
+                .exceptionally(e -> {
+                    log.warn("Failed to ingest {} for repository {}: {}", resource, repository.getFullName(), e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 1. 메서드 설명: 작업을 access token 단위 lane에 제출한다.
+     * 2. 로직:
+     *    - lane의 실행 중 작업 수가 허용치보다 작으면 githubIngestionExecutor에 넘기고, 그렇지 않으면 lane 대기열에 넣는다.
+     *    - executor 대기열이 가득 차서 거절되면 작업을 버리지 않고 future를 TaskRejectedException으로 실패시킨다.
+     *    - 작업 내의 GitHub 요청은 GithubRequestScheduler에서 BACKGROUND 우선순위로 처리된다.
+     *    - 호출 스레드를 블로킹하지 않으며, 작업을 마친 worker가 lane의 다음 대기 작업을 이어서 실행한다.
+     * 3. param:
+     *      String accessToken - lane을 구분하는 access token.
+     *      Supplier<T> supplier - 실행할 작업.
+     * 4. return: 작업 결과를 담은 CompletableFuture.
+     */
+    private <T> CompletableFuture<T> submit(String accessToken, Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(GithubRequestScheduler.runInBackground(supplier));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        TaskRejectedException[] rejected = new TaskRejectedException[1];
+        lanes.compute(accessToken, (key, lane) -> {
+            TokenLane target = lane == null ? new TokenLane() : lane;
+            if (target.running < maxConcurrencyPerToken) {
+                try {
+                    executor.execute(() -> drain(accessToken, task));
+                    target.running++;
+                } catch (TaskRejectedException e) {
+                    rejected[0] = e;
+                }
+            } else {
+                target.waiting.add(task);
+            }
+            return target.running == 0 && target.waiting.isEmpty() ? null : target;
+        });
+        if (rejected[0] != null) {
+            log.warn("Github ingestion executor is saturated, rejecting task");
+            future.completeExceptionally(rejected[0]);
+        }
+        return future;
+    }
+
+    /**
+     * 1. 메서드 설명: worker 스레드에서 작업을 실행하고, 같은 lane의 대기 작업이 남아 있으면 이어서 실행한다.
+     * 2. 로직:
+     *    - 대기 작업을 executor에 다시 제출하지 않으므로, lane에 들어간 작업은 executor 대기열 포화로 거절되지 않는다.
+     *    - 대기 작업이 없으면 lane의 실행 수를 줄이고 종료한다.
+     * 3. param:
+     *      String accessToken - lane을 구분하는 access token.
+     *      Runnable first - 처음 실행할 작업.
+     * 4. return: 없음.
+     */
+    private void drain(String accessToken, Runnable first) {
+        Runnable task = first;
+        while (task != null) {
+            task.run();
+            task = release(accessToken);
+        }
+    }
+
+    private Runnable release(String accessToken) {
+        Runnable[] next = new Runnable[1];
+        lanes.computeIfPresent(accessToken, (key, lane) -> {
+            next[0] = lane.waiting.poll();
+            if (next[0] != null) {
+                return lane;
+            }
+            lane.running--;
+            return lane.running == 0 ? null : lane;
+        });
+        return next[0];
+    }
+
+    /**
+     * access token 하나에 대한 동시 실행 수와 대기열. ConcurrentHashMap.compute 안에서만 접근한다.
+     */
+    private static final class TokenLane {
+        private int running;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+    }
+}
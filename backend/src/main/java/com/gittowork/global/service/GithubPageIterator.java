@@ -0,0 +1,127 @@
+package com.gittowork.global.service;
+
+import com.gittowork.global.exception.GithubRepositoryNotFoundException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * GitHub 목록 API 응답을 한 페이지씩 조회하는 iterator.
+ * - 응답의 Link 헤더에서 rel="next" URL을 따라가며, 페이지를 모두 메모리에 모으지 않고 호출자에게 즉시 전달한다.
+ * - 각 페이지 본문은 GithubPayloadReader의 element reader로 스트리밍 파싱한다.
+ * - 첫 페이지 요청이 304 Not Modified이면 더 이상 페이지를 조회하지 않는다.
+ */
+public class GithubPageIterator<T> implements Iterator<List<T>> {
+
+    public static final int PER_PAGE = 100;
+
+    private final RestTemplate restTemplate;
+    private final HttpEntity<?> request;
+    private final String resourceName;
+    private final GithubPayloadReader.ElementReader<T> elementReader;
+
+    private URI nextUri;
+    private boolean firstPage = true;
+    private boolean notModified;
+    private String firstPageETag;
+
+    public GithubPageIterator(RestTemplate restTemplate, URI firstUri, HttpEntity<?> request, String resourceName,
+                              GithubPayloadReader.ElementReader<T> elementReader) {
+        this.restTemplate = restTemplate;
+        this.nextUri = firstUri;
+        this.request = request;
+        this.resourceName = resourceName;
+        this.elementReader = elementReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextUri != null;
+    }
+
+    /**
+     * 1. 메서드 설명: 다음 페이지를 조회하여 반환한다.
+     * 2. 로직:
+     *    - 현재 nextUri로 GET 요청을 보내고, 첫 페이지가 304이면 notModified를 기록한 후 빈 리스트를 반환한다.
+     *    - 2xx가 아니면 GithubRepositoryNotFoundException을 발생시킨다.
+     *    - Link 헤더의 rel="next" URL을 다음 요청 대상으로 설정하고, 본문은 element reader로 스트리밍 파싱한다.
+     * 3. param: 없음.
+     * 4. return: 현재 페이지의 항목 리스트.
+     */
+    @Override
+    public List<T> next() {
+        if (nextUri == null) {
+            throw new NoSuchElementException();
+        }
+        boolean isFirstPage = firstPage;
+        firstPage = false;
+
+        List<T> page = restTemplate.execute(
+                nextUri,
+                HttpMethod.GET,
+                clientRequest -> clientRequest.getHeaders().putAll(request.getHeaders()),
+                response -> {
+                    if (isFirstPage && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                        notModified = true;
+                        nextUri = null;
+                        return Collections.<T>emptyList();
+                    }
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new GithubRepositoryNotFoundException("Failed to fetch " + resourceName + " - HTTP " + response.getStatusCode());
+                    }
+                    if (isFirstPage) {
+                        firstPageETag = response.getHeaders().getETag();
+                    }
+                    nextUri = parseNextLink(response.getHeaders());
+                    return GithubPayloadReader.readArray(response.getBody(), elementReader);
+                }
+        );
+        return page == null ? Collections.emptyList() : page;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    public String getFirstPageETag() {
+        return firstPageETag;
+    }
+
+    /**
+     * 1. 메서드 설명: Link 헤더에서 rel="next"에 해당하는 URL을 추출한다.
+     * 2. 로직:
+     *    - Link 헤더를 ','로 분리한 후, rel="next" 파라미터를 가진 항목의 &lt;...&gt; 안의 URL을 반환한다.
+     * 3. param:
+     *      HttpHeaders headers - 응답 헤더.
+     * 4. return: 다음 페이지 URI 또는 없으면 null.
+     */
+    static URI parseNextLink(HttpHeaders headers) {
+        String linkHeader = headers.getFirst(HttpHeaders.LINK);
+        if (linkHeader == null) {
+            return null;
+        }
+        for (String link : linkHeader.split(",")) {
+            String[] segments = link.split(";");
+            if (segments.length < 2) {
+                continue;
+            }
+            for (int i = 1; i < segments.length; i++) {
+                if (segments[i].trim().equals("rel=\"next\"")) {
+                    String url = segments[0].trim();
+                    if (url.startsWith("<") && url.endsWith(">")) {
+                        return URI.create(url.substring(1, url.length() - 1));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,384 @@
+package com.gittowork.global.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.gittowork.domain.github.entity.GithubIssue;
+import com.gittowork.domain.github.entity.GithubPullRequest;
+import com.gittowork.domain.github.model.commit.CommitListItem;
+import com.gittowork.domain.github.model.event.EventListItem;
+import com.gittowork.domain.github.model.issue.IssueLabel;
+import com.gittowork.domain.github.model.issue.IssueUser;
+import com.gittowork.domain.github.model.pullrequest.PullRequestBranch;
+import com.gittowork.domain.github.model.pullrequest.PullRequestUser;
+import com.gittowork.domain.github.model.repository.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * GitHub REST 응답을 Jackson streaming parser로 읽어, 모델에 필요한 필드만 생성하는 reader 모음.
+ * Map<String, Object> 트리를 만들지 않고 필요 없는 필드(patch, payload, 중첩 repo 정보 등)는 skipChildren()으로 건너뛴다.
+ */
+public final class GithubPayloadReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private GithubPayloadReader() {
+    }
+
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle(String field, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 1. 메서드 설명: 응답 본문 InputStream에서 JSON 배열을 읽어 요소별 reader로 변환한다.
+     * 2. 로직:
+     *    - streaming parser를 생성하고 최상위 배열의 각 요소를 elementReader로 읽는다.
+     *    - 본문이 비어 있거나 배열이 아니면 빈 리스트를 반환한다.
+     * 3. param:
+     *      InputStream body - 응답 본문.
+     *      ElementReader<T> elementReader - 배열 요소 reader.
+     * 4. return: 변환된 요소 리스트.
+     */
+    public static <T> List<T> readArray(InputStream body, ElementReader<T> elementReader) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == null) {
+                return Collections.emptyList();
+            }
+            return readArray(parser, elementReader);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 상세 commit 응답에서 files[].filename 중 조건에 맞는 파일 이름만 추출한다.
+     * 2. 로직:
+     *    - 최상위 객체의 "files" 배열만 읽고, patch 등 나머지 필드는 모두 건너뛴다.
+     * 3. param:
+     *      InputStream body - 상세 commit 응답 본문.
+     *      Predicate<String> filter - 포함할 파일 이름 조건.
+     * 4. return: 조건을 만족하는 filename 리스트.
+     */
+    public static List<String> readCommitFileNames(InputStream body, Predicate<String> filter) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == null) {
+                return fileNames;
+            }
+            readObject(parser, (field, p) -> {
+                if ("files".equals(field)) {
+                    readArray(p, fileParser -> {
+                        String[] fileName = new String[1];
+                        readObject(fileParser, (fileField, fp) -> {
+                            if ("filename".equals(fileField)) {
+                                fileName[0] = fp.getValueAsString();
+                            } else {
+                                fp.skipChildren();
+                            }
+                        });
+                        if (filter.test(fileName[0])) {
+                            fileNames.add(fileName[0]);
+                        }
+                        return null;
+                    });
+                } else {
+                    p.skipChildren();
+                }
+            });
+        }
+        return fileNames;
+    }
+
+    public static Repository readRepository(JsonParser parser) throws IOException {
+        Repository.RepositoryBuilder builder = Repository.builder().description("");
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "id" -> builder.repoId(intValue(p));
+                case "name" -> builder.repoName(p.getValueAsString());
+                case "full_name" -> builder.fullName(p.getValueAsString());
+                case "language" -> builder.language(p.getValueAsString());
+                case "stargazers_count" -> builder.stargazersCount(intValue(p));
+                case "forks_count" -> builder.forksCount(intValue(p));
+                case "created_at" -> builder.createdAt(dateValue(p));
+                case "updated_at" -> builder.updatedAt(dateValue(p));
+                case "pushed_at" -> builder.pushedAt(dateValue(p));
+                case "description" -> builder.description(p.getValueAsString(""));
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    public static CommitListItem readCommit(JsonParser parser) throws IOException {
+        CommitListItem.CommitListItemBuilder builder = CommitListItem.builder();
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "sha" -> builder.sha(p.getValueAsString());
+                case "commit" -> readObject(p, (commitField, cp) -> {
+                    switch (commitField) {
+                        case "message" -> builder.message(cp.getValueAsString());
+                        case "author" -> readObject(cp, (authorField, ap) -> {
+                            switch (authorField) {
+                                case "name" -> builder.authorName(ap.getValueAsString());
+                                case "email" -> builder.authorEmail(ap.getValueAsString());
+                                case "date" -> builder.authorDate(dateValue(ap));
+                                default -> ap.skipChildren();
+                            }
+                        });
+                        case "committer" -> readObject(cp, (committerField, mp) -> {
+                            if ("date".equals(committerField)) {
+                                builder.committerDate(utcDateValue(mp));
+                            } else {
+                                mp.skipChildren();
+                            }
+                        });
+                        default -> cp.skipChildren();
+                    }
+                });
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * 1. 메서드 설명: 이슈 객체를 읽어 GithubIssue로 변환한다.
+     * 2. 로직:
+     *    - issueId는 GitHub 이슈의 "id" 값을, repoId는 수집 대상 repository의 id를 사용한다.
+     *    - user, labels, assignee, assignees는 필요한 필드만 읽는다.
+     * 3. param:
+     *      JsonParser parser - 이슈 객체 시작 위치의 parser.
+     *      int repoId - 수집 대상 repository id.
+     * 4. return: GithubIssue 객체.
+     */
+    public static GithubIssue readIssue(JsonParser parser, int repoId) throws IOException {
+        GithubIssue.GithubIssueBuilder builder = GithubIssue.builder()
+                .repoId(repoId)
+                .url("")
+                .commentsUrl("")
+                .title("")
+                .body("")
+                .labels(Collections.emptyList())
+                .assignees(Collections.emptyList());
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "id" -> builder.issueId(p.getValueAsLong());
+                case "url" -> builder.url(p.getValueAsString(""));
+                case "comments_url" -> builder.commentsUrl(p.getValueAsString(""));
+                case "title" -> builder.title(p.getValueAsString(""));
+                case "body" -> builder.body(p.getValueAsString(""));
+                case "comments" -> builder.comments(intValue(p));
+                case "user" -> builder.user(readIssueUser(p));
+                case "assignee" -> builder.assignee(readIssueUser(p));
+                case "labels" -> builder.labels(readArray(p, GithubPayloadReader::readIssueLabel));
+                case "assignees" -> builder.assignees(readArray(p, GithubPayloadReader::readIssueUser));
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    public static GithubPullRequest readPullRequest(JsonParser parser) throws IOException {
+        GithubPullRequest.GithubPullRequestBuilder builder = GithubPullRequest.builder()
+                .url("")
+                .htmlUrl("")
+                .diffUrl("")
+                .patchUrl("")
+                .title("")
+                .body("");
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "number" -> builder.prId(intValue(p));
+                case "url" -> builder.url(p.getValueAsString(""));
+                case "html_url" -> builder.htmlUrl(p.getValueAsString(""));
+                case "diff_url" -> builder.diffUrl(p.getValueAsString(""));
+                case "patch_url" -> builder.patchUrl(p.getValueAsString(""));
+                case "title" -> builder.title(p.getValueAsString(""));
+                case "body" -> builder.body(p.getValueAsString(""));
+                case "comments" -> builder.commentsCount(intValue(p));
+                case "review_comments" -> builder.reviewCommentsCount(intValue(p));
+                case "commits" -> builder.commitsCount(intValue(p));
+                case "user" -> builder.user(readPullRequestUser(p));
+                case "head" -> builder.head(readPullRequestBranch(p, null));
+                case "base" -> builder.base(readPullRequestBranch(p, builder));
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    public static EventListItem readEvent(JsonParser parser) throws IOException {
+        EventListItem.EventListItemBuilder builder = EventListItem.builder();
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "id" -> builder.id(p.getValueAsString());
+                case "type" -> builder.type(p.getValueAsString());
+                case "created_at" -> builder.createdAt(dateValue(p));
+                case "repo" -> readObject(p, (repoField, rp) -> {
+                    if ("name".equals(repoField)) {
+                        builder.repoName(rp.getValueAsString());
+                    } else {
+                        rp.skipChildren();
+                    }
+                });
+                case "payload" -> readObject(p, (payloadField, pp) -> {
+                    if ("ref_type".equals(payloadField)) {
+                        builder.refType(pp.getValueAsString());
+                    } else {
+                        pp.skipChildren();
+                    }
+                });
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private static IssueUser readIssueUser(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        IssueUser.IssueUserBuilder builder = IssueUser.builder();
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "login" -> builder.login(p.getValueAsString());
+                case "id" -> builder.id(intValue(p));
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private static IssueLabel readIssueLabel(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        IssueLabel.IssueLabelBuilder builder = IssueLabel.builder();
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "id" -> builder.id(intValue(p));
+                case "name" -> builder.name(p.getValueAsString());
+                case "color" -> builder.color(p.getValueAsString());
+                case "description" -> builder.description(p.getValueAsString());
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private static PullRequestUser readPullRequestUser(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        PullRequestUser.PullRequestUserBuilder builder = PullRequestUser.builder();
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "login" -> builder.login(p.getValueAsString());
+                case "id" -> builder.id(intValue(p));
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * 1. 메서드 설명: pull request의 head/base 브랜치 객체를 읽는다.
+     * 2. 로직:
+     *    - label, ref, sha, user만 읽으며, base 브랜치인 경우 repo.id를 pull request의 repoId로 설정한다.
+     * 3. param:
+     *      JsonParser parser - 브랜치 객체 시작 위치의 parser.
+     *      GithubPullRequest.GithubPullRequestBuilder prBuilder - base 브랜치일 때 repoId를 설정할 builder (head이면 null).
+     * 4. return: PullRequestBranch 객체 또는 null.
+     */
+    private static PullRequestBranch readPullRequestBranch(JsonParser parser,
+                                                           GithubPullRequest.GithubPullRequestBuilder prBuilder) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        PullRequestBranch.PullRequestBranchBuilder builder = PullRequestBranch.builder();
+        readObject(parser, (field, p) -> {
+            switch (field) {
+                case "label" -> builder.label(p.getValueAsString());
+                case "ref" -> builder.ref(p.getValueAsString());
+                case "sha" -> builder.sha(p.getValueAsString());
+                case "user" -> builder.user(readPullRequestUser(p));
+                case "repo" -> {
+                    if (prBuilder == null) {
+                        p.skipChildren();
+                    } else {
+                        readObject(p, (repoField, rp) -> {
+                            if ("id".equals(repoField)) {
+                                prBuilder.repoId(intValue(rp));
+                            } else {
+                                rp.skipChildren();
+                            }
+                        });
+                    }
+                }
+                default -> p.skipChildren();
+            }
+        });
+        return builder.build();
+    }
+
+    private static <T> List<T> readArray(JsonParser parser, ElementReader<T> elementReader) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Collections.emptyList();
+        }
+        List<T> items = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            T item = elementReader.read(parser);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private static void readObject(JsonParser parser, FieldHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            handler.handle(field, parser);
+        }
+    }
+
+    private static int intValue(JsonParser parser) throws IOException {
+        return (int) parser.getValueAsLong();
+    }
+
+    private static LocalDateTime dateValue(JsonParser parser) throws IOException {
+        String value = parser.getValueAsString();
+        return value == null ? null : OffsetDateTime.parse(value).toLocalDateTime();
+    }
+
+    private static LocalDateTime utcDateValue(JsonParser parser) throws IOException {
+        String value = parser.getValueAsString();
+        return value == null ? null : OffsetDateTime.parse(value).atZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+}
@@ -0,0 +1,333 @@
+package com.gittowork.global.service;
+
+import com.gittowork.global.exception.GithubRateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * api.github.com 으로 나가는 모든 요청이 거치는 rate limit 스케줄러. (RestTemplate interceptor로 등록된다.)
+ * - access token마다 token bucket을 두고, 응답의 X-RateLimit-Remaining / X-RateLimit-Reset 헤더로 동기화한다.
+ *   bucket은 token 원문이 아닌 SHA-256 해시로 구분하며, 일정 시간 사용되지 않은 bucket은 주기적으로 제거한다.
+ * - 요청은 우선순위(INTERACTIVE > BACKGROUND)에 따라 대기하며, BACKGROUND 요청은 reserve 만큼의 잔여량을 남겨둔다.
+ * - INTERACTIVE 요청은 최대 interactive-max-wait-ms 까지만 기다리며, 그보다 오래 기다려야 하면 즉시 GithubRateLimitExceededException을 던진다.
+ * - 403/429 응답(secondary rate limit)은 Retry-After 또는 지수 backoff 후 재시도한다.
+ */
+@Slf4j
+@Service
+public class GithubRequestScheduler implements ClientHttpRequestInterceptor {
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final String GITHUB_API_HOST = "api.github.com";
+    private static final String ANONYMOUS_KEY = "anonymous";
+    private static final ThreadLocal<Priority> CURRENT_PRIORITY = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    @Value("${github.rate-limit.default-limit:5000}")
+    private int defaultLimit;
+
+    @Value("${github.rate-limit.background-reserve:100}")
+    private int backgroundReserve;
+
+    @Value("${github.rate-limit.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${github.rate-limit.secondary-backoff-ms:60000}")
+    private long secondaryBackoffMillis;
+
+    @Value("${github.rate-limit.interactive-max-wait-ms:10000}")
+    private long interactiveMaxWaitMillis;
+
+    @Value("${github.rate-limit.bucket-idle-ms:3600000}")
+    private long bucketIdleMillis;
+
+    /**
+     * 1. 메서드 설명: access token(또는 Authorization 헤더 값)을 bucket/lane 구분용 키로 변환한다.
+     * 2. 로직:
+     *    - token 원문이 Map 키로 메모리에 남지 않도록 SHA-256 해시의 16진수 문자열을 사용한다.
+     *    - null이면 anonymous 키를 반환한다.
+     * 3. param:
+     *      String token - access token 또는 Authorization 헤더 값.
+     * 4. return: 해시된 키 문자열.
+     */
+    public static String tokenKey(String token) {
+        if (token == null) {
+            return ANONYMOUS_KEY;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 현재 스레드에서 실행되는 GitHub 요청을 BACKGROUND 우선순위로 수행한다.
+     * 2. 로직:
+     *    - ThreadLocal 우선순위를 BACKGROUND로 설정한 후 작업을 실행하고, 종료 시 이전 값으로 복원한다.
+     * 3. param:
+     *      Supplier<T> task - 실행할 작업.
+     * 4. return: 작업 결과.
+     */
+    public static <T> T runInBackground(Supplier<T> task) {
+        Priority previous = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(Priority.BACKGROUND);
+        try {
+            return task.get();
+        } finally {
+            CURRENT_PRIORITY.set(previous);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub API 요청을 rate limit 정책에 따라 대기, 실행, 재시도하는 interceptor 메서드.
+     * 2. 로직:
+     *    - api.github.com 이 아닌 요청은 그대로 실행한다.
+     *    - Authorization 헤더의 해시 기준으로 token bucket을 찾아 우선순위에 따라 permit을 획득한다.
+     *      INTERACTIVE 요청이 최대 대기 시간을 넘겨야 하면 대기하지 않고 GithubRateLimitExceededException을 던진다.
+     *    - 응답 헤더로 bucket을 동기화하고, 403/429 rate limit 응답이면 backoff를 설정한 후 최대 maxRetries 회 재시도한다.
+     * 3. param:
+     *      HttpRequest request - 요청 정보.
+     *      byte[] body - 요청 본문.
+     *      ClientHttpRequestExecution execution - 다음 실행 단계.
+     * 4. return: ClientHttpResponse 객체.
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!GITHUB_API_HOST.equalsIgnoreCase(request.getURI().getHost())) {
+            return execution.execute(request, body);
+        }
+
+        String authorization = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        TokenBucket bucket = buckets.compute(tokenKey(authorization), (key, existing) -> {
+            TokenBucket target = existing == null ? new TokenBucket(defaultLimit) : existing;
+            target.lastUsedMillis = System.currentTimeMillis();
+            return target;
+        });
+        Priority priority = CURRENT_PRIORITY.get();
+        long maxWaitMillis = priority == Priority.INTERACTIVE ? interactiveMaxWaitMillis : Long.MAX_VALUE;
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                bucket.acquire(priority, backgroundReserve, maxWaitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for GitHub rate limit");
+            }
+
+            ClientHttpResponse response = execution.execute(request, body);
+            HttpHeaders headers = response.getHeaders();
+            bucket.sync(headers);
+
+            if (!isRateLimited(response) || attempt >= maxRetries) {
+                return response;
+            }
+
+            long waitMillis = backoffMillis(headers, bucket, attempt);
+            log.warn("GitHub rate limit hit ({}), retrying in {} ms [attempt {}/{}]",
+                    response.getStatusCode(), waitMillis, attempt + 1, maxRetries);
+            bucket.backoff(waitMillis);
+            response.close();
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 우선순위별 대기 중인 요청 수를 반환한다.
+     * 2. 로직:
+     *    - 모든 token bucket의 대기 카운터를 합산한다.
+     * 3. param: 없음.
+     * 4. return: 우선순위별 대기 요청 수 Map.
+     */
+    public Map<Priority, Integer> getQueueDepth() {
+        int interactive = 0;
+        int background = 0;
+        for (TokenBucket bucket : buckets.values()) {
+            interactive += bucket.waitingInteractive;
+            background += bucket.waitingBackground;
+        }
+        return Map.of(Priority.INTERACTIVE, interactive, Priority.BACKGROUND, background);
+    }
+
+    public int getTrackedTokenCount() {
+        return buckets.size();
+    }
+
+    /**
+     * 1. 메서드 설명: 일정 시간 사용되지 않은 token bucket을 제거한다.
+     * 2. 로직:
+     *    - 마지막 사용 후 bucket-idle-ms 가 지났고 대기 중인 요청이 없는 bucket만 제거한다.
+     *    - 제거는 compute 안에서 수행되므로, 같은 token으로 들어오는 요청과 경합하지 않는다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @Scheduled(fixedDelayString = "${github.rate-limit.bucket-evict-interval-ms:600000}")
+    public void evictIdleBuckets() {
+        long idleBefore = System.currentTimeMillis() - bucketIdleMillis;
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> bucket.isIdle(idleBefore) ? null : bucket);
+        }
+    }
+
+    private boolean isRateLimited(ClientHttpResponse response) throws IOException {
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            return true;
+        }
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.FORBIDDEN)) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        return headers.containsKey(HttpHeaders.RETRY_AFTER) || "0".equals(headers.getFirst("X-RateLimit-Remaining"));
+    }
+
+    private long backoffMillis(HttpHeaders headers, TokenBucket bucket, int attempt) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Unexpected Retry-After header: {}", retryAfter);
+            }
+        }
+        if ("0".equals(headers.getFirst("X-RateLimit-Remaining"))) {
+            return Math.max(0, bucket.resetAtMillis - System.currentTimeMillis());
+        }
+        return secondaryBackoffMillis << attempt;
+    }
+
+    /**
+     * access token 하나의 잔여 요청량과 대기열 상태.
+     */
+    private static final class TokenBucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+
+        private int limit;
+        private int remaining;
+        private long resetAtMillis;
+        private long backoffUntilMillis;
+        private volatile int waitingInteractive;
+        private volatile int waitingBackground;
+        private volatile long lastUsedMillis;
+
+        private TokenBucket(int limit) {
+            this.limit = limit;
+            this.remaining = limit;
+        }
+
+        private void acquire(Priority priority, int backgroundReserve, long maxWaitMillis) throws InterruptedException {
+            lock.lock();
+            try {
+                adjustWaiting(priority, 1);
+                try {
+                    long start = System.currentTimeMillis();
+                    while (true) {
+                        long now = System.currentTimeMillis();
+                        if (resetAtMillis > 0 && now >= resetAtMillis) {
+                            remaining = limit;
+                            resetAtMillis = 0;
+                        }
+                        long waitMillis = waitMillis(priority, backgroundReserve, now);
+                        if (waitMillis <= 0) {
+                            remaining--;
+                            return;
+                        }
+                        if (waitMillis > maxWaitMillis - (now - start)) {
+                            throw new GithubRateLimitExceededException(
+                                    "GitHub rate limit exhausted, retry after " + waitMillis + " ms");
+                        }
+                        changed.await(waitMillis, TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    adjustWaiting(priority, -1);
+                    changed.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long waitMillis(Priority priority, int backgroundReserve, long now) {
+            if (now < backoffUntilMillis) {
+                return backoffUntilMillis - now;
+            }
+            int floor = priority == Priority.BACKGROUND ? backgroundReserve : 0;
+            if (priority == Priority.BACKGROUND && waitingInteractive > 0) {
+                return 1000;
+            }
+            if (remaining > floor) {
+                return 0;
+            }
+            return resetAtMillis > now ? resetAtMillis - now : 1000;
+        }
+
+        private boolean isIdle(long idleBefore) {
+            return lastUsedMillis < idleBefore && waitingInteractive == 0 && waitingBackground == 0;
+        }
+
+        private void adjustWaiting(Priority priority, int delta) {
+            if (priority == Priority.INTERACTIVE) {
+                waitingInteractive += delta;
+            } else {
+                waitingBackground += delta;
+            }
+        }
+
+        private void sync(HttpHeaders headers) {
+            String remainingHeader = headers.getFirst("X-RateLimit-Remaining");
+            String resetHeader = headers.getFirst("X-RateLimit-Reset");
+            String limitHeader = headers.getFirst("X-RateLimit-Limit");
+            lock.lock();
+            try {
+                if (limitHeader != null) {
+                    limit = Integer.parseInt(limitHeader.trim());
+                }
+                if (remainingHeader != null) {
+                    remaining = Integer.parseInt(remainingHeader.trim());
+                }
+                if (resetHeader != null) {
+                    resetAtMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(resetHeader.trim()));
+                }
+                changed.signalAll();
+            } catch (NumberFormatException e) {
+                log.warn("Unexpected GitHub rate limit headers: remaining={}, reset={}", remainingHeader, resetHeader);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void backoff(long waitMillis) {
+            lock.lock();
+            try {
+                backoffUntilMillis = Math.max(backoffUntilMillis, System.currentTimeMillis() + waitMillis);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
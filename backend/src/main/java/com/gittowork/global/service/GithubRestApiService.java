@@ -1,12 +1,11 @@
 package com.gittowork.global.service;
 
 import com.gittowork.domain.github.entity.*;
+import com.gittowork.domain.github.model.analysis.CodeLanguage;
 import com.gittowork.domain.github.model.commit.Commit;
+import com.gittowork.domain.github.model.commit.CommitListItem;
 import com.gittowork.domain.github.model.event.Event;
-import com.gittowork.domain.github.model.issue.IssueLabel;
-import com.gittowork.domain.github.model.issue.IssueUser;
-import com.gittowork.domain.github.model.pullrequest.PullRequestBranch;
-import com.gittowork.domain.github.model.pullrequest.PullRequestUser;
+import com.gittowork.domain.github.model.event.EventListItem;
 import com.gittowork.domain.github.model.repository.Repository;
 import com.gittowork.domain.github.repository.*;
 import com.gittowork.global.exception.GithubRepositoryNotFoundException;
@@ -14,16 +13,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,11 +36,13 @@ public class GithubRestApiService {
 
     private final RestTemplate restTemplate;
     private final GithubRepoRepository githubRepoRepository;
-    private final GithubCommitRepository githubCommitRepository;
     private final GithubLanguageRepository githubLanguageRepository;
     private final GithubIssueRepository githubIssueRepository;
     private final GithubPullRequestRepository githubPullRequestRepository;
     private final GithubEventRepository githubEventRepository;
+    private final GithubCommitDetailFetcher githubCommitDetailFetcher;
+    private final GithubSyncCursorRepository githubSyncCursorRepository;
+    private final MongoTemplate mongoTemplate;
 
     @Value("${github.client.id}")
     private String clientId;
@@ -50,18 +56,22 @@ public class GithubRestApiService {
     @Autowired
     public GithubRestApiService(RestTemplate restTemplate,
                                 GithubRepoRepository githubRepoRepository,
-                                GithubCommitRepository githubCommitRepository,
                                 GithubLanguageRepository githubLanguageRepository,
                                 GithubIssueRepository githubIssueRepository,
                                 GithubPullRequestRepository githubPullRequestRepository,
-                                GithubEventRepository githubEventRepository) {
+                                GithubEventRepository githubEventRepository,
+                                GithubCommitDetailFetcher githubCommitDetailFetcher,
+                                GithubSyncCursorRepository githubSyncCursorRepository,
+                                MongoTemplate mongoTemplate) {
         this.restTemplate = restTemplate;
         this.githubRepoRepository = githubRepoRepository;
-        this.githubCommitRepository = githubCommitRepository;
         this.githubLanguageRepository = githubLanguageRepository;
         this.githubIssueRepository = githubIssueRepository;
         this.githubPullRequestRepository = githubPullRequestRepository;
         this.githubEventRepository = githubEventRepository;
+        this.githubCommitDetailFetcher = githubCommitDetailFetcher;
+        this.githubSyncCursorRepository = githubSyncCursorRepository;
+        this.mongoTemplate = mongoTemplate;
     }
 
     // ============================================================
@@ -133,13 +143,13 @@ public class GithubRestApiService {
      *    userId를 기준으로 기존에 DB에 저장된 repository들과 비교하여, 중복되지 않는 신규 repository만을 추가(중복 방지)한 후,
      *    GithubRepository Document를 저장하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/users/{githubName}/repos" 엔드포인트에 GET 요청을 보낸다.
+     *    - accessToken과 githubName을 사용하여 "https://api.github.com/users/{githubName}/repos" 엔드포인트를
+     *      per_page=100 단위로 조회하며, Link 헤더의 rel="next"를 따라 모든 페이지를 순회한다.
      *    - API 응답이 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
-     *    - 응답 데이터를 Repository 객체 리스트로 매핑한다.
-     *    - DB에서 userId에 해당하는 GithubRepository 문서가 존재하는지 확인한다.
-     *         - 존재하는 경우: 기존 repositories 목록에서 repoName을 기준으로 중복을 제거하고,
-     *           신규 repository만 추가한 후 업데이트(save)한다.
-     *         - 존재하지 않는 경우: 새로운 GithubRepository Document를 생성하여 삽입한다.
+     *    - DB에 저장된 GithubRepository 문서에서 repoName만 projection으로 읽어 중복 확인용 Set을 만든다.
+     *    - 각 페이지가 도착할 때마다 Repository 객체로 매핑하여 repoName 기준으로 중복을 제거한 후,
+     *      신규 repository만 $push/$each로 문서에 이어 붙인다. (문서가 없으면 upsert로 생성한다.)
+     *    - 전체 문서를 페이지마다 다시 저장하지 않으므로, 쓰기량은 신규 repository 수에 비례한다.
      * 3. param:
      *      String accessToken - GitHub API 접근에 사용되는 access token.
      *      String githubName  - GitHub 사용자 이름.
@@ -148,59 +158,37 @@ public class GithubRestApiService {
      */
     public GithubRepository saveUserGithubRepository(String accessToken, String githubName, int userId) {
         HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
+        GithubPageIterator<Repository> pages = pageIterator(
                 "https://api.github.com/users/{githubName}/repos",
-                HttpMethod.GET,
                 request,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                githubName
+                "repositories",
+                Map.of("githubName", githubName),
+                GithubPayloadReader::readRepository
         );
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch repositories - HTTP " + response.getStatusCode());
-        }
-        List<Map<String, Object>> responseBody = response.getBody();
-        List<Repository> newRepositories = (responseBody == null ? Collections.emptyList() : responseBody)
-                .stream()
-                .map(obj -> {
-                    Map<String, Object> map = (Map<String, Object>) obj;
-                    return Repository.builder()
-                            .repoId((Integer) map.get("id"))
-                            .repoName(map.get("name").toString())
-                            .fullName(map.get("full_name").toString())
-                            .language(map.get("language") != null ? map.get("language").toString() : null)
-                            .stargazersCount((Integer) map.get("stargazers_count"))
-                            .forksCount((Integer) map.get("forks_count"))
-                            .createdAt(OffsetDateTime.parse(map.get("created_at").toString()).toLocalDateTime())
-                            .updatedAt(OffsetDateTime.parse(map.get("updated_at").toString()).toLocalDateTime())
-                            .pushedAt(OffsetDateTime.parse(map.get("pushed_at").toString()).toLocalDateTime())
-                            .description(map.get("description") != null ? map.get("description").toString() : "")
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        Optional<GithubRepository> optionalGithubRepo = githubRepoRepository.findByUserId(userId);
-        if (optionalGithubRepo.isPresent()) {
-            GithubRepository existingRepo = optionalGithubRepo.get();
-
-            Set<String> existingRepoNames = existingRepo.getRepositories().stream()
-                    .map(Repository::getRepoName)
-                    .collect(Collectors.toSet());
-
-            List<Repository> repositoriesToAdd = newRepositories.stream()
-                    .filter(repo -> !existingRepoNames.contains(repo.getRepoName()))
-                    .toList();
 
-            List<Repository> mergedRepositories = new ArrayList<>(existingRepo.getRepositories());
-            mergedRepositories.addAll(repositoriesToAdd);
-            existingRepo.setRepositories(mergedRepositories);
-            return githubRepoRepository.save(existingRepo);
-        } else {
-            GithubRepository githubRepository = GithubRepository.builder()
-                    .userId(userId)
-                    .repositories(newRepositories)
-                    .build();
-            return githubRepoRepository.save(githubRepository);
+        Query documentQuery = Query.query(Criteria.where("userId").is(userId));
+        Query repoNameQuery = Query.query(Criteria.where("userId").is(userId));
+        repoNameQuery.fields().include("repositories.repoName");
+        GithubRepository storedRepoNames = mongoTemplate.findOne(repoNameQuery, GithubRepository.class);
+        Set<String> existingRepoNames = storedRepoNames == null || storedRepoNames.getRepositories() == null
+                ? new HashSet<>()
+                : storedRepoNames.getRepositories().stream()
+                        .map(Repository::getRepoName)
+                        .collect(Collectors.toCollection(HashSet::new));
+
+        boolean appended = false;
+        while (pages.hasNext()) {
+            List<Repository> repositoriesToAdd = pages.next().stream()
+                    .filter(repo -> existingRepoNames.add(repo.getRepoName()))
+                    .toList();
+            appendToArray(documentQuery, "repositories", repositoriesToAdd, GithubRepository.class);
+            appended = true;
         }
+        if (!appended) {
+            appendToArray(documentQuery, "repositories", List.of(), GithubRepository.class);
+        }
+        return githubRepoRepository.findByUserId(userId)
+                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"));
     }
 
     // ============================================================
@@ -208,105 +196,136 @@ public class GithubRestApiService {
     // ============================================================
 
     /**
-     * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 커밋 정보를 조회하고,
-     *    각 repository별로 기존 DB에 저장된 커밋(Document)와 비교하여, commitSha 기준으로 신규 커밋만 추가(중복 방지)하는 메서드.
+     * 1. 메서드 설명: 단일 repository의 커밋 정보를 조회하여, commitSha 기준으로 신규 커밋만 GithubCommit Document에 추가하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 각 repository의 커밋 정보를 조회한다.
-     *    - API 응답이 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
-     *    - 각 repository에 대해 기존 DB에 저장된 GithubCommit Document가 있는지 확인한다.
-     *         * 존재하는 경우: 기존 Document의 commitSha들을 기준으로 신규 커밋만 필터링하여 추가한 후 업데이트한다.
-     *         * 존재하지 않는 경우: 조회된 커밋 전체를 포함하는 새로운 GithubCommit Document를 생성하여 저장한다.
+     *    - 커밋 목록은 per_page=100 단위로 Link 헤더의 rel="next"를 따라 조회하며, 페이지마다 신규 커밋만 $push/$each로 즉시 이어 붙인다.
+     *      (전체 Document를 다시 저장하거나 메모리에 유지하지 않는다.)
+     *    - repository별 GithubSyncCursor가 있으면 마지막 커밋 시각을 since로, 마지막 응답 ETag를 If-None-Match로 전달한다.
+     *      (커밋 Document가 없으면 cursor를 무시하고 전체 목록을 조회한다.)
+     *    - 응답이 304 Not Modified이면 변경 사항이 없으므로 추가 작업 없이 종료한다.
+     *    - 기존 GithubCommit Document에 이미 저장된 SHA는 projection으로 SHA만 읽어, 상세 조회 전에 제외한다.
+     *      재수집 시 신규 커밋에 대해서만 상세 API를 호출한다.
+     *    - 신규 커밋의 파일 변경 내역은 GithubCommitDetailFetcher를 통해 제한된 동시성으로 병렬 조회한다.
+     *    - Document가 없으면 upsert로 생성되며, 동기화가 끝나면 cursor를 갱신한다.
      * 3. param:
      *      accessToken - GitHub API 접근에 사용되는 access token.
      *      githubName  - GitHub 사용자 이름.
      *      userId      - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repository  - 커밋을 수집할 대상 repository.
      * 4. return: 없음.
      */
-    public void saveUserGithubCommits(String accessToken, String githubName, int userId) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
+    public void saveRepositoryCommits(String accessToken, String githubName, int userId, Repository repository) {
         HttpEntity<String> detailRequest = new HttpEntity<>(createHeaders(accessToken, MediaType.valueOf("application/vnd.github.v3+json")));
 
-        // DB에서 해당 userId의 GithubRepository Document를 조회하여 연관 repository 목록 가져오기
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
-
-        // 각 repository에 대해 커밋 정보를 가져와서 중복 여부를 판단 후 저장
-        repositories.forEach(repository -> {
-            String repositoryName = repository.getRepoName();
-            int repoId = repository.getRepoId();
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    "https://api.github.com/repos/{githubName}/{repositoryName}/commits",
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                    githubName,
-                    repositoryName
-            );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch commits for repository: " + repositoryName + " - HTTP " + response.getStatusCode());
+        String repositoryName = repository.getRepoName();
+        int repoId = repository.getRepoId();
+
+        Query documentQuery = Query.query(Criteria.where("userId").is(userId).and("repoId").is(repoId));
+        Query shaQuery = Query.query(Criteria.where("userId").is(userId).and("repoId").is(repoId));
+        shaQuery.fields().include("commits.commitSha");
+        Optional<GithubCommit> existingCommitOpt = Optional.ofNullable(mongoTemplate.findOne(shaQuery, GithubCommit.class));
+        GithubSyncCursor syncCursor = githubSyncCursorRepository.findByUserIdAndRepoId(userId, repoId)
+                .orElseGet(() -> GithubSyncCursor.builder().userId(userId).repoId(repoId).build());
+
+        HttpHeaders headers = createHeaders(accessToken, MediaType.APPLICATION_JSON);
+        Map<String, Object> uriVariables = new HashMap<>();
+        uriVariables.put("githubName", githubName);
+        uriVariables.put("repositoryName", repositoryName);
+        String url = "https://api.github.com/repos/{githubName}/{repositoryName}/commits";
+        if (existingCommitOpt.isPresent()) {
+            if (syncCursor.getEtag() != null) {
+                headers.setIfNoneMatch(syncCursor.getEtag());
+            }
+            if (syncCursor.getLastCommitDate() != null) {
+                url += "?since={since}";
+                uriVariables.put("since", syncCursor.getLastCommitDate().toInstant(ZoneOffset.UTC).toString());
+            }
+        }
+        GithubPageIterator<CommitListItem> pages = pageIterator(url, new HttpEntity<>(headers),
+                "commits for repository: " + repositoryName, uriVariables, GithubPayloadReader::readCommit);
+
+        Set<String> existingCommitShas = existingCommitOpt
+                .map(GithubCommit::getCommits)
+                .orElse(Collections.emptyList())
+                .stream()
+                .map(Commit::getCommitSha)
+                .collect(Collectors.toCollection(HashSet::new));
+        boolean missingDocument = existingCommitOpt.isEmpty();
+
+        while (pages.hasNext()) {
+            List<CommitListItem> newCommitItems = pages.next().stream()
+                    .filter(commitItem -> existingCommitShas.add(commitItem.getSha()))
+                    .toList();
+            if (newCommitItems.isEmpty()) {
+                continue;
             }
-            List<Map<String, Object>> responseBody = response.getBody();
-            List<Commit> fetchedCommits = (responseBody == null ? Collections.<Map<String, Object>>emptyList() : responseBody)
-                    .stream()
-                    .map(commitMap -> parseCommit(commitMap, githubName, repositoryName, detailRequest))
+            Map<String, List<String>> filesChangedBySha = githubCommitDetailFetcher.fetchAll(
+                    accessToken,
+                    newCommitItems.stream().map(CommitListItem::getSha).toList(),
+                    sha -> fetchFilesChanged(githubName, repositoryName, sha, detailRequest)
+            );
+            List<Commit> newCommits = newCommitItems.stream()
+                    .map(commitItem -> parseCommit(commitItem, filesChangedBySha))
                     .toList();
+            appendToArray(documentQuery, "commits", newCommits, GithubCommit.class);
+            advanceSyncCursor(syncCursor, newCommitItems);
+            missingDocument = false;
+        }
+        if (pages.isNotModified()) {
+            return;
+        }
+        if (missingDocument) {
+            appendToArray(documentQuery, "commits", List.of(), GithubCommit.class);
+        }
 
-            Optional<GithubCommit> existingCommitOpt = githubCommitRepository.findByUserIdAndRepoId(userId, repoId);
-            if (existingCommitOpt.isPresent()) {
-                GithubCommit existingCommitDoc = existingCommitOpt.get();
-                Set<String> existingCommitShas = existingCommitDoc.getCommits().stream()
-                        .map(Commit::getCommitSha)
-                        .collect(Collectors.toSet());
-                List<Commit> newCommits = fetchedCommits.stream()
-                        .filter(commit -> !existingCommitShas.contains(commit.getCommitSha()))
-                        .toList();
-                if (!newCommits.isEmpty()) {
-                    existingCommitDoc.getCommits().addAll(newCommits);
-                    githubCommitRepository.save(existingCommitDoc);
-                }
-            } else {
-                GithubCommit newCommitDoc = GithubCommit.builder()
-                        .userId(userId)
-                        .repoId(repoId)
-                        .commits(fetchedCommits)
-                        .build();
-                githubCommitRepository.save(newCommitDoc);
+        syncCursor.setEtag(pages.getFirstPageETag());
+        syncCursor.setLastSyncedAt(LocalDateTime.now());
+        githubSyncCursorRepository.save(syncCursor);
+    }
+
+    /**
+     * 1. 메서드 설명: 새로 저장된 커밋들 중 committer 날짜가 가장 최신인 커밋으로 GithubSyncCursor의 위치를 갱신하는 헬퍼 메서드.
+     * 2. 로직:
+     *    - 각 커밋의 committer 날짜(UTC)가 cursor의 마지막 커밋 날짜보다 최신이면 날짜와 SHA를 기록한다.
+     *    - cursor 저장은 전체 페이지 동기화가 끝난 후 호출자가 수행한다.
+     * 3. param:
+     *      syncCursor     - 갱신할 GithubSyncCursor.
+     *      newCommitItems - 새로 저장된 커밋 목록 항목.
+     * 4. return: 없음.
+     */
+    private void advanceSyncCursor(GithubSyncCursor syncCursor, List<CommitListItem> newCommitItems) {
+        for (CommitListItem commitItem : newCommitItems) {
+            LocalDateTime committedAt = commitItem.getCommitterDate();
+            if (committedAt == null) {
+                continue;
+            }
+            if (syncCursor.getLastCommitDate() == null || committedAt.isAfter(syncCursor.getLastCommitDate())) {
+                syncCursor.setLastCommitDate(committedAt);
+                syncCursor.setLastCommitSha(commitItem.getSha());
             }
-        });
+        }
     }
 
     /**
-     * 1. 메서드 설명: API 응답 데이터에서 commit 정보를 파싱하여 Commit 객체를 생성하는 메서드.
+     * 1. 메서드 설명: 커밋 목록 항목을 Commit 객체로 변환하는 메서드.
      * 2. 로직:
-     *    - commitMap으로부터 commit 정보, SHA, 메시지, 작성자, 작성 날짜를 추출한다.
-     *    - fetchFilesChanged()를 호출하여 해당 commit의 파일 변경 내역(코드 파일만)을 조회한다.
+     *    - 스트리밍 파싱된 CommitListItem에서 SHA, 메시지, 작성자, 작성 날짜를 가져온다.
+     *    - 미리 병렬 조회해 둔 filesChangedBySha에서 해당 commit의 파일 변경 내역(코드 파일만)을 가져온다.
      *    - 빌더 패턴을 활용하여 Commit 객체를 생성한다.
      * 3. param:
-     *      commitMap      - GitHub commit API 응답 데이터의 Map.
-     *      githubName     - GitHub 사용자 이름.
-     *      repositoryName - repository 이름.
-     *      detailRequest  - 상세 commit API 호출을 위한 HttpEntity.
+     *      commitItem        - 커밋 목록 API 응답의 항목.
+     *      filesChangedBySha - commit SHA별 변경 코드 파일 목록.
      * 4. return: 파싱된 정보를 기반으로 생성된 Commit 객체.
      */
-    private Commit parseCommit(Map<String, Object> commitMap, String githubName, String repositoryName, HttpEntity<String> detailRequest) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> commitInfo = (Map<String, Object>) commitMap.get("commit");
-        String sha = (String) commitMap.get("sha");
-        String message = (String) commitInfo.get("message");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> authorInfo = (Map<String, Object>) commitInfo.get("author");
-        String dateString = (String) authorInfo.get("date");
-        LocalDateTime commitDate = OffsetDateTime.parse(dateString).toLocalDateTime();
-        Map<String, String> authorMap = Map.of(
-                "name", (String) authorInfo.get("name"),
-                "email", (String) authorInfo.get("email")
-        );
-        List<String> filesChanged = fetchFilesChanged(githubName, repositoryName, sha, detailRequest);
+    private Commit parseCommit(CommitListItem commitItem, Map<String, List<String>> filesChangedBySha) {
+        Map<String, String> authorMap = new HashMap<>();
+        authorMap.put("name", commitItem.getAuthorName());
+        authorMap.put("email", commitItem.getAuthorEmail());
+        List<String> filesChanged = filesChangedBySha.getOrDefault(commitItem.getSha(), Collections.emptyList());
         return Commit.builder()
-                .commitSha(sha)
-                .commitMessage(message)
-                .commitDate(commitDate)
+                .commitSha(commitItem.getSha())
+                .commitMessage(commitItem.getMessage())
+                .commitDate(commitItem.getAuthorDate())
                 .author(authorMap)
                 .filesChanged(filesChanged)
                 .build();
@@ -317,8 +336,8 @@ public class GithubRestApiService {
      *    코드 파일(주 언어 파일)에 해당하는 파일의 filename을 추출하여 반환하는 헬퍼 메서드.
      * 2. 로직:
      *    - commit SHA를 이용해 상세 commit API를 호출하고, 응답 상태가 2xx가 아니면 예외를 발생시킨다.
-     *    - 응답 데이터의 "files" 항목을 순회하면서, isCodeFile()을 통해 코드 파일로 판단되면 filename을 추출한다.
-     *    - 코드 파일이 아닌 경우는 제외하고, 해당 filename들의 List를 반환한다.
+     *    - 응답 본문을 스트리밍 파싱하여 "files" 항목의 filename만 읽고, patch 등 나머지 필드는 건너뛴다.
+     *    - CodeLanguage.isCodeFile()을 통해 코드 파일로 판단되는 filename들의 List를 반환한다.
      * 3. param:
      *      githubName     - GitHub 사용자 이름.
      *      repositoryName - repository 이름.
@@ -326,60 +345,22 @@ public class GithubRestApiService {
      *      detailRequest  - 상세 commit API 호출을 위한 HttpEntity.
      * 4. return: 코드 파일에 해당하는 filename들을 포함한 List<String> 객체.
      */
-    @SuppressWarnings("unchecked")
     private List<String> fetchFilesChanged(String githubName, String repositoryName, String sha, HttpEntity<String> detailRequest) {
-        ResponseEntity<Map<String, Object>> detailResponse = restTemplate.exchange(
+        List<String> filesChanged = restTemplate.execute(
                 "https://api.github.com/repos/{githubName}/{repositoryName}/commits/{sha}",
                 HttpMethod.GET,
-                detailRequest,
-                new ParameterizedTypeReference<Map<String, Object>>() {},
+                clientRequest -> clientRequest.getHeaders().putAll(detailRequest.getHeaders()),
+                response -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new GithubRepositoryNotFoundException("Failed to fetch commit details for sha: " + sha + " - HTTP " + response.getStatusCode());
+                    }
+                    return GithubPayloadReader.readCommitFileNames(response.getBody(), CodeLanguage::isCodeFile);
+                },
                 githubName,
                 repositoryName,
                 sha
         );
-        if (!detailResponse.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch commit details for sha: " + sha + " - HTTP " + detailResponse.getStatusCode());
-        }
-        Map<String, Object> detailBody = detailResponse.getBody();
-        if (detailBody == null) {
-            return Collections.emptyList();
-        }
-        List<Map<String, Object>> filesList = (List<Map<String, Object>>) detailBody.get("files");
-        if (filesList == null) {
-            return Collections.emptyList();
-        }
-        return filesList.stream()
-                .filter(fileMap -> {
-                    String fullFilename = (String) fileMap.get("filename");
-                    return isCodeFile(fullFilename);
-                })
-                .map(fileMap -> (String) fileMap.get("filename"))
-                .toList();
-    }
-
-    /**
-     * 1. 메서드 설명: 파일 이름을 기반으로 해당 파일이 코드 파일(주 언어 파일)인지 판별한다.
-     * 2. 로직:
-     *    - 허용된 확장자 목록에 해당하면 코드 파일로 판단한다.
-     * 3. param:
-     *      filename - 파일의 전체 경로 또는 이름.
-     * 4. return: 코드 파일이면 true, 그렇지 않으면 false.
-     */
-    private boolean isCodeFile(String filename) {
-        if (filename == null) return false;
-        String lower = filename.toLowerCase();
-        return lower.endsWith(".java") ||
-                lower.endsWith(".py") ||
-                lower.endsWith(".js") ||
-                lower.endsWith(".ts") ||
-                lower.endsWith(".html") ||
-                lower.endsWith(".css") ||
-                lower.endsWith(".cpp") ||
-                lower.endsWith(".c") ||
-                lower.endsWith(".cs") ||
-                lower.endsWith(".rb") ||
-                lower.endsWith(".go") ||
-                lower.endsWith(".kt");
+        return filesChanged == null ? Collections.emptyList() : filesChanged;
     }
 
     // ============================================================
@@ -387,61 +368,50 @@ public class GithubRestApiService {
     // ============================================================
 
     /**
-     * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 언어 정보를 조회하고,
-     *    userId와 repoId를 기준으로 DB에 이미 저장된 GithubLanguage Document가 있으면 업데이트하고,
-     *    존재하지 않으면 신규 Document를 삽입하는 메서드.
+     * 1. 메서드 설명: 단일 repository의 언어 정보를 조회하여 GithubLanguage Document를 갱신(없으면 생성)하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/repos/{githubName}/{repositoryName}/languages" 엔드포인트에서 언어 정보를 조회한다.
-     *    - 응답 상태가 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 Map으로 처리한다.
-     *    - 각 repository에 대해 DB에서 userId와 repoId로 GithubLanguage Document를 조회한다.
-     *         * 존재하면, 응답으로 받은 언어 정보를 기존 Document의 languages 필드에 업데이트한 후 저장한다.
-     *         * 존재하지 않으면, 새로운 GithubLanguage Document를 생성하여 저장한다.
+     *    - "https://api.github.com/repos/{githubName}/{repositoryName}/languages" 엔드포인트에서 언어 정보를 조회한다.
+     *    - userId와 repoId로 기존 Document를 조회하여 존재하면 languages를 갱신하고, 없으면 새로 생성하여 저장한다.
      * 3. param:
      *      accessToken - GitHub API 접근에 사용되는 access token.
      *      githubName  - GitHub 사용자 이름.
      *      userId      - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repository  - 언어 정보를 수집할 대상 repository.
      * 4. return: 없음.
      */
-    public void saveUserRepositoryLanguage(String accessToken, String githubName, int userId) {
+    public void saveRepositoryLanguage(String accessToken, String githubName, int userId, Repository repository) {
         HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
+        String repositoryName = repository.getRepoName();
+        int repoId = repository.getRepoId();
 
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
-
-        repositories.forEach(repository -> {
-            String repositoryName = repository.getRepoName();
-            int repoId = repository.getRepoId();
-
-            ResponseEntity<Map<String, Long>> response = restTemplate.exchange(
-                    "https://api.github.com/repos/{githubName}/{repositoryName}/languages",
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<Map<String, Long>>() {},
-                    githubName,
-                    repositoryName
-            );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch languages for repository: " + repositoryName
-                        + " - HTTP " + response.getStatusCode());
-            }
-            Map<String, Long> languageMap = response.getBody();
-            languageMap = (languageMap == null) ? Collections.emptyMap() : languageMap;
-
-            Optional<GithubLanguage> existingLanguageOpt = githubLanguageRepository.findByUserIdAndRepoId(userId, repoId);
-            if (existingLanguageOpt.isPresent()) {
-                GithubLanguage existingLanguage = existingLanguageOpt.get();
-                existingLanguage.setLanguages(languageMap);
-                githubLanguageRepository.save(existingLanguage);
-            } else {
-                GithubLanguage newLanguage = GithubLanguage.builder()
-                        .userId(userId)
-                        .repoId(repoId)
-                        .languages(languageMap)
-                        .build();
-                githubLanguageRepository.save(newLanguage);
-            }
-        });
+        ResponseEntity<Map<String, Long>> response = restTemplate.exchange(
+                "https://api.github.com/repos/{githubName}/{repositoryName}/languages",
+                HttpMethod.GET,
+                request,
+                new ParameterizedTypeReference<Map<String, Long>>() {},
+                githubName,
+                repositoryName
+        );
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new GithubRepositoryNotFoundException("Failed to fetch languages for repository: " + repositoryName
+                    + " - HTTP " + response.getStatusCode());
+        }
+        Map<String, Long> languageMap = response.getBody();
+        languageMap = (languageMap == null) ? Collections.emptyMap() : languageMap;
+
+        Optional<GithubLanguage> existingLanguageOpt = githubLanguageRepository.findByUserIdAndRepoId(userId, repoId);
+        if (existingLanguageOpt.isPresent()) {
+            GithubLanguage existingLanguage = existingLanguageOpt.get();
+            existingLanguage.setLanguages(languageMap);
+            githubLanguageRepository.save(existingLanguage);
+        } else {
+            GithubLanguage newLanguage = GithubLanguage.builder()
+                    .userId(userId)
+                    .repoId(repoId)
+                    .languages(languageMap)
+                    .build();
+            githubLanguageRepository.save(newLanguage);
+        }
     }
 
     // ============================================================
@@ -449,56 +419,31 @@ public class GithubRestApiService {
     // ============================================================
 
     /**
-     * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 이슈 정보를 조회하고,
-     *    각 repository별로 기존 DB에 저장된 이슈(issueId 기준)와 비교하여 중복되지 않는 신규 이슈만을 DB에 저장하는 메서드.
+     * 1. 메서드 설명: 단일 repository의 이슈 정보를 조회하여 issueId 기준으로 신규 이슈만 저장하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/repos/{userName}/{repositoryName}/issues?state=all" 엔드포인트에서 이슈 정보를 조회한다.
-     *    - 응답 상태가 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
-     *    - 조회된 이슈 데이터를 GithubIssue 객체로 매핑한다.
-     *    - 각 이슈에 대해 issueId를 기준으로 DB에 이미 존재하는지 확인한다.
-     *         * 존재하지 않는 경우에만 신규 이슈 목록에 포함시킨다.
-     *    - 신규 이슈가 있을 경우, 이를 DB에 저장한다.
+     *    - "https://api.github.com/repos/{userName}/{repositoryName}/issues?state=all" 엔드포인트를 per_page=100 단위로 페이지 순회한다.
+     *    - 각 페이지의 이슈를 GithubIssue 객체로 매핑한 후, DB에 존재하지 않는 이슈만 페이지 단위로 저장한다.
      * 3. param:
      *      accessToken - GitHub API 접근에 사용되는 access token.
      *      githubName  - GitHub 사용자 이름.
-     *      userId      - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repository  - 이슈를 수집할 대상 repository.
      * 4. return: 없음.
      */
-    public void saveGithubIssues(String accessToken, String githubName, int userId) {
+    public void saveRepositoryIssues(String accessToken, String githubName, Repository repository) {
         HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.valueOf("application/vnd.github.v3+json")));
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
-
-        for (Repository repository : repositories) {
-            String repositoryName = repository.getRepoName();
-
-            String url = "https://api.github.com/repos/{userName}/{repositoryName}/issues?state=all";
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                    githubName,
-                    repositoryName
-            );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch issues for repository: " + repositoryName + " - HTTP " + response.getStatusCode());
-            }
-            List<Map<String, Object>> issuesData = Optional.ofNullable(response.getBody())
-                    .orElse(Collections.emptyList());
-
-            List<GithubIssue> parsedIssues = issuesData.stream()
-                    .filter(Objects::nonNull) // issueMap 자체가 null인 경우 건너뛰기
-                    .map(issueMap -> {
-                        try {
-                            return parseIssue(issueMap);
-                        } catch (NullPointerException e) {
-                            throw new NullPointerException("Failed to parse issue: " + issueMap.toString());
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
+        String repositoryName = repository.getRepoName();
+
+        int repoId = repository.getRepoId();
+        GithubPageIterator<GithubIssue> pages = pageIterator(
+                "https://api.github.com/repos/{userName}/{repositoryName}/issues?state=all",
+                request,
+                "issues for repository: " + repositoryName,
+                Map.of("userName", githubName, "repositoryName", repositoryName),
+                parser -> GithubPayloadReader.readIssue(parser, repoId)
+        );
+
+        while (pages.hasNext()) {
+            List<GithubIssue> parsedIssues = pages.next();
 
             List<GithubIssue> newIssues = parsedIssues.stream()
                     .filter(issue -> !githubIssueRepository.existsByIssueId(issue.getIssueId()))
@@ -510,210 +455,35 @@ public class GithubRestApiService {
         }
     }
 
-    /**
-     * 1. 메서드 설명: API 응답 데이터의 개별 이슈 정보를 파싱하여 GithubIssue 객체로 변환하는 헬퍼 메서드.
-     * 2. 로직:
-     *    - 기본 필드(repo_id, issue_id, url, comments_url, title, body, comments)를 추출하고,
-     *      중첩 객체(user, labels, assignee, assignees)는 각각 파싱한다.
-     * 3. param:
-     *      issueMap - GitHub 이슈 API 응답 데이터의 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubIssue 객체.
-     */
-    private GithubIssue parseIssue(Map<String, Object> issueMap) {
-        if (issueMap == null) {
-            throw new IllegalArgumentException("issueMap cannot be null");
-        }
-
-        int repoId = Optional.ofNullable(issueMap.get("repo_id"))
-                .filter(Number.class::isInstance)
-                .map(val -> ((Number) val).intValue())
-                .orElse(0);
-        long issueId = Optional.ofNullable(issueMap.get("issue_id"))
-                .filter(Number.class::isInstance)
-                .map(val -> ((Number) val).longValue())
-                .orElse(0L);
-        String url = Optional.ofNullable(issueMap.get("url"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        String commentsUrl = Optional.ofNullable(issueMap.get("comments_url"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        String title = Optional.ofNullable(issueMap.get("title"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        String body = Optional.ofNullable(issueMap.get("body"))
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .orElse("");
-        int comments = Optional.ofNullable(issueMap.get("comments"))
-                .filter(Number.class::isInstance)
-                .map(val -> ((Number) val).intValue())
-                .orElse(0);
-
-        IssueUser user = null;
-        Object userObj = issueMap.get("user");
-        if (userObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> userMap = (Map<String, Object>) userObj;
-            try {
-                user = parseIssueUser(userMap);
-            } catch (NullPointerException e) {
-                throw new NullPointerException("Failed to parse user: " + userMap);
-            }
-        }
-
-        List<IssueLabel> labels = Collections.emptyList();
-        Object labelsObj = issueMap.get("labels");
-        if (labelsObj instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> labelsList = (List<Map<String, Object>>) labelsObj;
-            labels = labelsList.stream()
-                    .filter(Objects::nonNull)
-                    .map(labelMap -> {
-                        try {
-                            return parseLabel(labelMap);
-                        } catch (Exception e) {
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
-
-        IssueUser assignee = null;
-        Object assigneeObj = issueMap.get("assignee");
-        if (assigneeObj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> assigneeMap = (Map<String, Object>) assigneeObj;
-            try {
-                assignee = parseIssueUser(assigneeMap);
-            } catch (NullPointerException e) {
-                throw new NullPointerException("Failed to parse assignee: " + assigneeMap);
-            }
-        }
-
-        List<IssueUser> assignees = Collections.emptyList();
-        Object assigneesObj = issueMap.get("assignees");
-        if (assigneesObj instanceof List) {
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> assigneesList = (List<Map<String, Object>>) assigneesObj;
-            assignees = assigneesList.stream()
-                    .filter(Objects::nonNull)
-                    .map(item -> {
-                        try {
-                            return parseIssueUser(item);
-                        } catch (Exception e) {
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
-
-        return GithubIssue.builder()
-                .repoId(repoId)
-                .issueId(issueId)
-                .url(url)
-                .commentsUrl(commentsUrl)
-                .title(title)
-                .body(body)
-                .user(user)
-                .labels(labels)
-                .assignee(assignee)
-                .assignees(assignees)
-                .comments(comments)
-                .build();
-    }
-
-    /**
-     * 1. 메서드 설명: GitHub 이슈의 사용자 정보를 파싱하여 GithubIssueUser 객체로 변환하는 헬퍼 메서드.
-     * 2. 로직:
-     *    - userMap으로부터 login과 id 값을 추출한다.
-     * 3. param:
-     *      userMap - GitHub 이슈 API 응답의 user 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubIssueUser 객체.
-     */
-    private IssueUser parseIssueUser(Map<String, Object> userMap) {
-        String login = (String) userMap.get("login");
-        int id = ((Number) userMap.get("id")).intValue();
-        return IssueUser.builder()
-                .login(login)
-                .id(id)
-                .build();
-    }
-
-    /**
-     * 1. 메서드 설명: GitHub 이슈의 레이블 정보를 파싱하여 GithubIssueLabel 객체로 변환하는 헬퍼 메서드.
-     * 2. 로직:
-     *    - labelMap에서 id, name, color, description 값을 추출한다.
-     * 3. param:
-     *      labelMap - GitHub 이슈 API 응답의 레이블 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubIssueLabel 객체.
-     */
-    private IssueLabel parseLabel(Map<String, Object> labelMap) {
-        int id = ((Number) labelMap.get("id")).intValue();
-        String name = (String) labelMap.get("name");
-        String color = (String) labelMap.get("color");
-        String description = (String) labelMap.get("description");
-        return IssueLabel.builder()
-                .id(id)
-                .name(name)
-                .color(color)
-                .description(description)
-                .build();
-    }
-
     // ============================================================
     // 6. Pull Request 관련 메서드
     // ============================================================
 
     /**
-     * 1. 메서드 설명: GitHub API를 호출하여 사용자의 각 repository에 대한 pull request 정보를 조회하고,
-     *    각 repository별로 기존 DB에 저장된 pull request(prId 기준)와 비교하여 중복되지 않는 신규 pull request만을 DB에 저장하는 메서드.
+     * 1. 메서드 설명: 단일 repository의 pull request 정보를 조회하여 prId 기준으로 신규 pull request만 저장하는 메서드.
      * 2. 로직:
-     *    - accessToken과 githubName을 사용하여 "https://api.github.com/repos/{userName}/{repositoryName}/pulls?state=all" 엔드포인트에서 pull request 정보를 조회한다.
-     *    - 응답 상태가 2xx가 아니면 예외를 발생시키며, 응답 본문이 null이면 빈 리스트로 처리한다.
-     *    - 조회된 pull request 데이터를 GithubPullRequest 객체로 매핑한다.
-     *    - 각 pull request에 대해 prId를 기준으로 DB에 이미 존재하는지 확인한다.
-     *         * 존재하지 않는 경우에만 신규 pull request 목록에 포함시킨다.
-     *    - 신규 pull request가 있을 경우, 이를 DB에 저장한다.
+     *    - "https://api.github.com/repos/{userName}/{repositoryName}/pulls?state=all" 엔드포인트를 per_page=100 단위로 페이지 순회한다.
+     *    - 각 페이지의 데이터를 GithubPullRequest 객체로 매핑한 후, DB에 존재하지 않는 pull request만 페이지 단위로 저장한다.
      * 3. param:
      *      accessToken - GitHub API 접근에 사용되는 access token.
      *      githubName  - GitHub 사용자 이름.
-     *      userId      - 현재 애플리케이션 사용자의 로컬 식별자.
+     *      repository  - pull request를 수집할 대상 repository.
      * 4. return: 없음.
      */
-    public void saveGithubPullRequests(String accessToken, String githubName, int userId) {
+    public void saveRepositoryPullRequests(String accessToken, String githubName, Repository repository) {
         HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.valueOf("application/vnd.github.v3+json")));
+        String repositoryName = repository.getRepoName();
 
-        List<Repository> repositories = githubRepoRepository.findByUserId(userId)
-                .orElseThrow(() -> new GithubRepositoryNotFoundException("Github repository not found"))
-                .getRepositories();
-
-        for (Repository repository : repositories) {
-            String repositoryName = repository.getRepoName();
-
-            String url = "https://api.github.com/repos/{userName}/{repositoryName}/pulls?state=all";
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    request,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                    githubName,
-                    repositoryName
-            );
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new GithubRepositoryNotFoundException("Failed to fetch pull requests - HTTP " + response.getStatusCode());
-            }
-            List<Map<String, Object>> prList = Optional.ofNullable(response.getBody())
-                    .orElse(Collections.emptyList());
+        GithubPageIterator<GithubPullRequest> pages = pageIterator(
+                "https://api.github.com/repos/{userName}/{repositoryName}/pulls?state=all",
+                request,
+                "pull requests",
+                Map.of("userName", githubName, "repositoryName", repositoryName),
+                GithubPayloadReader::readPullRequest
+        );
 
-            List<GithubPullRequest> parsedPRs = prList.stream()
-                    .map(this::parsePullRequest)
-                    .toList();
+        while (pages.hasNext()) {
+            List<GithubPullRequest> parsedPRs = pages.next();
 
             List<GithubPullRequest> newPRs = parsedPRs.stream()
                     .filter(pr -> !githubPullRequestRepository.existsByPrId(pr.getPrId()))
@@ -725,181 +495,6 @@ public class GithubRestApiService {
         }
     }
 
-    /**
-     * 1. 메서드 설명: 주어진 Pull Request 정보를 담은 Map을 파싱하여 GithubPullRequest 객체로 변환한다.
-     * 2. 로직:
-     *    - prMap이 null이면 IllegalArgumentException을 발생시킨다.
-     *    - "base", "repo", "user", "head" 등의 Map 데이터를 추출하여 각각 적절한 값으로 파싱한다.
-     *    - 숫자 값은 parseIntValue()를 사용해 파싱하며, 문자열 값은 getStringValue()를 사용한다.
-     *    - PR 사용자와 브랜치는 tryParse() 메서드를 통해 안전하게 파싱한다.
-     * 3. param:
-     *      Map<String, Object> prMap - Pull Request 데이터를 포함한 Map.
-     * 4. return: GithubPullRequest 객체.
-     */
-    private GithubPullRequest parsePullRequest(Map<String, Object> prMap) {
-        if (prMap == null) {
-            throw new IllegalArgumentException("prMap cannot be null");
-        }
-
-        // "base"와 "repo" Map 추출
-        Map<String, Object> baseMap = getMap(prMap.get("base"));
-        Map<String, Object> baseRepo = getMap(baseMap.get("repo"));
-
-        int repoId = parseIntValue(baseRepo.get("full_name"));
-        int prId = parseIntValue(prMap.get("number"));
-
-        // URL, title, body 등 문자열 필드 파싱
-        String url = getStringValue(prMap.get("url"));
-        String htmlUrl = getStringValue(prMap.get("html_url"));
-        String diffUrl = getStringValue(prMap.get("diff_url"));
-        String patchUrl = getStringValue(prMap.get("patch_url"));
-        String title = getStringValue(prMap.get("title"));
-        String body = getStringValue(prMap.get("body"));
-
-        // 댓글 및 커밋 등 카운트 값 파싱
-        int commentsCount = parseIntValue(prMap.get("comments"));
-        int reviewCommentsCount = parseIntValue(prMap.get("review_comments"));
-        int commitsCount = parseIntValue(prMap.get("commits"));
-
-        // 사용자, head, base 브랜치 파싱 (에러 발생 시 로그 기록 후 null 반환)
-        Map<String, Object> userMap = getMap(prMap.get("user"));
-        PullRequestUser user = tryParse(() -> parsePRUser(userMap), "Error parsing user in pull request");
-
-        Map<String, Object> headMap = getMap(prMap.get("head"));
-        PullRequestBranch head = tryParse(() -> parsePRBranch(headMap), "Error parsing head branch in pull request");
-
-        PullRequestBranch base = tryParse(() -> parsePRBranch(baseMap), "Error parsing base branch in pull request");
-
-        return GithubPullRequest.builder()
-                .repoId(repoId)
-                .prId(prId)
-                .url(url)
-                .htmlUrl(htmlUrl)
-                .diffUrl(diffUrl)
-                .patchUrl(patchUrl)
-                .title(title)
-                .body(body)
-                .commentsCount(commentsCount)
-                .reviewCommentsCount(reviewCommentsCount)
-                .commitsCount(commitsCount)
-                .user(user)
-                .head(head)
-                .base(base)
-                .build();
-    }
-
-    /**
-     * 1. 메서드 설명: 주어진 객체를 Map<String, Object>로 안전하게 캐스팅하여 반환한다.
-     *    만약 캐스팅할 수 없으면 빈 Map을 반환한다.
-     * 2. 로직:
-     *    - 객체가 Map 타입이면 해당 Map으로 캐스팅하고, 그렇지 않으면 Collections.emptyMap()을 반환한다.
-     * 3. param:
-     *      Object obj - 캐스팅할 대상 객체.
-     * 4. return: Map<String, Object> 객체 또는 빈 Map.
-     */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> getMap(Object obj) {
-        return (obj instanceof Map) ? (Map<String, Object>) obj : Collections.emptyMap();
-    }
-
-    /**
-     * 1. 메서드 설명: 주어진 객체를 정수 값으로 파싱한다.
-     *    객체가 Number이면 intValue()를 사용하고, String이면 Integer.parseInt()를 사용한다.
-     *    파싱에 실패하면 0을 반환한다.
-     * 2. 로직:
-     *    - 객체 타입에 따라 적절한 파싱 로직을 적용한다.
-     * 3. param:
-     *      Object value - 파싱할 객체.
-     * 4. return: 파싱된 정수 값 또는 실패 시 0.
-     */
-    private int parseIntValue(Object value) {
-        if (value instanceof Number number) {
-            return number.intValue();
-        } else if (value instanceof String string) {
-            try {
-                return Integer.parseInt(string);
-            } catch (NumberFormatException e) {
-                log.warn("Number format exception: {}", string);
-                throw new NumberFormatException("Number format exception: " + string);
-            }
-        }
-        return 0;
-    }
-
-    /**
-     * 1. 메서드 설명: 주어진 객체가 String이면 해당 문자열을 반환하고, 그렇지 않으면 빈 문자열을 반환한다.
-     * 2. 로직:
-     *    - 객체가 String 타입인지 확인 후 반환한다.
-     * 3. param:
-     *      Object value - 문자열로 변환할 객체.
-     * 4. return: 문자열 또는 빈 문자열.
-     */
-    private String getStringValue(Object value) {
-        return value instanceof String string ? string : "";
-    }
-
-    /**
-     * 1. 메서드 설명: Supplier를 사용하여 파싱 작업을 수행하며, 예외 발생 시 로그를 기록하고 null을 반환한다.
-     * 2. 로직:
-     *    - Supplier의 get() 메서드를 호출하여 값을 파싱한다.
-     *    - 예외가 발생하면 지정된 에러 메시지와 함께 로그를 남기고 null을 반환한다.
-     * 3. param:
-     *      Supplier<T> parser - 파싱 작업을 수행하는 람다 함수.
-     *      String errorMessage - 에러 발생 시 출력할 메시지.
-     * 4. return: 파싱된 값 T 또는 예외 발생 시 null.
-     */
-    private <T> T tryParse(Supplier<T> parser, String errorMessage) {
-        try {
-            return parser.get();
-        } catch (Exception e) {
-            log.error("{}: {}", errorMessage, e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * 1. 메서드 설명: GitHub Pull Request의 사용자 정보를 파싱하여 GithubPullRequestUser 객체로 변환하는 헬퍼 메서드.
-     * 2. 로직:
-     *    - userMap으로부터 login과 id 값을 추출하며, id는 int 타입으로 처리한다.
-     * 3. param:
-     *      userMap - GitHub Pull Request API 응답의 user 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubPullRequestUser 객체.
-     */
-    private PullRequestUser parsePRUser(Map<String, Object> userMap) {
-        String login = (String) userMap.get("login");
-        int id = ((Number) userMap.get("id")).intValue();
-        return PullRequestUser.builder()
-                .login(login)
-                .id(id)
-                .build();
-    }
-
-    /**
-     * 1. 메서드 설명: Pull Request 응답 데이터의 브랜치(head/base) 정보를 파싱하여 GithubPullRequestBranch 객체로 변환하는 헬퍼 메서드.
-     * 2. 로직:
-     *    - branchMap으로부터 label, ref, sha 값을 추출하고, 내부의 user 객체는 parsePRUser()를 통해 파싱한다.
-     * 3. param:
-     *      branchMap - GitHub Pull Request API 응답의 head/base 데이터 Map.
-     * 4. return: 파싱된 정보를 기반으로 생성된 GithubPullRequestBranch 객체.
-     */
-    private PullRequestBranch parsePRBranch(Map<String, Object> branchMap) {
-        String label = (String) branchMap.get("label");
-        String ref = (String) branchMap.get("ref");
-        String sha = (String) branchMap.get("sha");
-        PullRequestUser user = null;
-        if (branchMap.get("user") != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> userMap = (Map<String, Object>) branchMap.get("user");
-            user = parsePRUser(userMap);
-        }
-        return PullRequestBranch.builder()
-                .label(label)
-                .ref(ref)
-                .sha(sha)
-                .user(user)
-                .build();
-    }
-
     // ============================================================
     // 7. Event 관련 메서드
     // ============================================================
@@ -922,29 +517,11 @@ public class GithubRestApiService {
      * 4. return: 새로운 이벤트가 있거나 최신 이벤트가 90일 이상 오래되었으면 true, 그렇지 않으면 false.
      */
     public boolean checkNewGithubEvents(String accessToken, String userName, int userId, List<String> repoNames) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                "https://api.github.com/users/{userName}/events",
-                HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {},
-                userName
-        );
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch events - HTTP " + response.getStatusCode());
-        }
-
-        List<Map<String, Object>> apiEvents = response.getBody();
-        apiEvents = (apiEvents == null ? Collections.emptyList() : apiEvents);
+        List<EventListItem> apiEvents = fetchApiEvents(accessToken, userName);
         Set<String> allowedTypes = Set.of("PushEvent", "IssuesEvent", "PullRequestEvent");
 
-        List<Map<String, Object>> filteredApiEvents = apiEvents.stream()
-                .filter(event -> {
-                    Map<String, Object> repoMap = getMap(event.get("repo"));
-                    String repoName = (String) repoMap.get("name");
-                    return repoNames.contains(repoName);
-                })
+        List<EventListItem> filteredApiEvents = apiEvents.stream()
+                .filter(event -> repoNames.contains(event.getRepoName()))
                 .toList();
 
         if (filteredApiEvents.isEmpty()) {
@@ -988,22 +565,19 @@ public class GithubRestApiService {
      *    - 새로운 이벤트가 존재하면 저장한 후, 허용된 이벤트 타입이 포함되어 있는지 확인하여 결과를 반환한다.
      * 3. param:
      *      int userId - 내부 사용자 ID.
-     *      List<Map<String, Object>> filteredApiEvents - 필터링된 API 이벤트 리스트.
+     *      List<EventListItem> filteredApiEvents - 필터링된 API 이벤트 리스트.
      *      Set<String> allowedTypes - 허용된 이벤트 타입 집합.
      * 4. return: 허용된 이벤트 타입을 가진 새로운 이벤트가 있으면 true, 그렇지 않으면 false.
      */
-    private boolean processNewEvents(int userId, List<Map<String, Object>> filteredApiEvents, Set<String> allowedTypes) {
+    private boolean processNewEvents(int userId, List<EventListItem> filteredApiEvents, Set<String> allowedTypes) {
         Set<String> existingEventIds = githubEventRepository.findAllByUserId(userId)
                 .stream()
                 .map(GithubEvent::getGithubEventId)
                 .collect(Collectors.toSet());
 
         List<GithubEvent> newEvents = filteredApiEvents.stream()
-                .filter(eventMap -> {
-                    String eventId = (String) eventMap.get("id");
-                    return !existingEventIds.contains(eventId);
-                })
-                .map(eventMap -> convertToGithubEvent(eventMap, userId))
+                .filter(event -> !existingEventIds.contains(event.getId()))
+                .map(event -> convertToGithubEvent(event, userId))
                 .toList();
 
         if (!newEvents.isEmpty()) {
@@ -1032,8 +606,8 @@ public class GithubRestApiService {
      * 4. return: boolean - 새 repository 생성 이벤트가 감지되었거나 최신 이벤트가 90일 이상 오래되었으면 true, 그렇지 않으면 false.
      */
     public boolean checkNewRepositoryCreationEvents(String accessToken, String userName, int userId) {
-        List<Map<String, Object>> apiEvents = fetchApiEvents(accessToken, userName);
-        List<Map<String, Object>> createEvents = filterCreateEvents(apiEvents);
+        List<EventListItem> apiEvents = fetchApiEvents(accessToken, userName);
+        List<EventListItem> createEvents = filterCreateEvents(apiEvents);
 
         if (createEvents.isEmpty()) {
             return isLatestEventOlderThan90Days(userId);
@@ -1054,27 +628,27 @@ public class GithubRestApiService {
      * 1. 메서드 설명: GitHub API를 호출하여 사용자의 이벤트 리스트를 가져온다.
      * 2. 로직:
      *    - accessToken과 userName을 이용하여 API 요청을 보내고, 응답 코드가 200번대가 아니면 예외를 발생시킨다.
-     *    - 응답 본문이 null이면 빈 리스트를 반환한다.
+     *    - 응답 본문을 스트리밍 파싱하여 id, type, repo.name, payload.ref_type, created_at만 읽고 나머지 payload는 건너뛴다.
      * 3. param:
      *      String accessToken - GitHub API 접근 토큰.
      *      String userName - GitHub 사용자 이름.
-     * 4. return: List<Map<String, Object>> - GitHub Events API에서 반환된 이벤트 리스트.
+     * 4. return: List<EventListItem> - GitHub Events API에서 반환된 이벤트 리스트.
      */
-    private List<Map<String, Object>> fetchApiEvents(String accessToken, String userName) {
-        HttpEntity<String> request = new HttpEntity<>(createHeaders(accessToken, MediaType.APPLICATION_JSON));
-        ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
+    private List<EventListItem> fetchApiEvents(String accessToken, String userName) {
+        HttpHeaders headers = createHeaders(accessToken, MediaType.APPLICATION_JSON);
+        List<EventListItem> events = restTemplate.execute(
                 "https://api.github.com/users/{userName}/events",
                 HttpMethod.GET,
-                request,
-                new ParameterizedTypeReference<List<Map<String, Object>>>() {},
+                clientRequest -> clientRequest.getHeaders().putAll(headers),
+                response -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new GithubRepositoryNotFoundException("Failed to fetch events - HTTP " + response.getStatusCode());
+                    }
+                    return GithubPayloadReader.readArray(response.getBody(), GithubPayloadReader::readEvent);
+                },
                 userName
         );
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            throw new GithubRepositoryNotFoundException("Failed to fetch events - HTTP " + response.getStatusCode());
-        }
-
-        return Optional.ofNullable(response.getBody()).orElse(Collections.emptyList());
+        return Optional.ofNullable(events).orElse(Collections.emptyList());
     }
 
     /**
@@ -1082,17 +656,13 @@ public class GithubRestApiService {
      * 2. 로직:
      *    - 이벤트의 type이 "CreateEvent"인지 확인하고, payload가 존재하며 ref_type이 "repository"인지 검사한다.
      * 3. param:
-     *      List<Map<String, Object>> apiEvents - API에서 받아온 전체 이벤트 리스트.
-     * 4. return: List<Map<String, Object>> - 필터링된 repository 생성 이벤트 리스트.
+     *      List<EventListItem> apiEvents - API에서 받아온 전체 이벤트 리스트.
+     * 4. return: List<EventListItem> - 필터링된 repository 생성 이벤트 리스트.
      */
-    private List<Map<String, Object>> filterCreateEvents(List<Map<String, Object>> apiEvents) {
+    private List<EventListItem> filterCreateEvents(List<EventListItem> apiEvents) {
         return apiEvents.stream()
-                .filter(event -> "CreateEvent".equals(event.get("type")))
-                .filter(event -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> payload = (Map<String, Object>) event.get("payload");
-                    return payload != null && "repository".equals(payload.get("ref_type"));
-                })
+                .filter(event -> "CreateEvent".equals(event.getType()))
+                .filter(event -> "repository".equals(event.getRefType()))
                 .toList();
     }
 
@@ -1118,22 +688,16 @@ public class GithubRestApiService {
      *    - 각 이벤트에서 repository 이름을 추출하고, DB에 저장된 이름과 비교하여 새 이벤트만 선택한다.
      *    - 선택된 이벤트를 GithubEvent 객체로 변환하여 리스트로 반환한다.
      * 3. param:
-     *      List<Map<String, Object>> createEvents - 필터링된 CreateEvent 이벤트 리스트.
+     *      List<EventListItem> createEvents - 필터링된 CreateEvent 이벤트 리스트.
      *      int userId - 로컬 사용자 식별자.
      *      Set<String> storedRepoNames - DB에 저장된 repository 이름 집합.
      * 4. return: List<GithubEvent> - 새로 감지된 GithubEvent 객체 리스트.
      */
-    private List<GithubEvent> extractNewEvents(List<Map<String, Object>> createEvents, int userId, Set<String> storedRepoNames) {
+    private List<GithubEvent> extractNewEvents(List<EventListItem> createEvents, int userId, Set<String> storedRepoNames) {
         return createEvents.stream()
-                .map(event -> {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> repoMap = (Map<String, Object>) event.get("repo");
-                    String repoName = repoMap != null ? (String) repoMap.get("name") : null;
-                    return repoName != null ? new AbstractMap.SimpleEntry<>(repoName, event) : null;
-                })
-                .filter(Objects::nonNull)
-                .filter(entry -> !storedRepoNames.contains(entry.getKey()))
-                .map(entry -> convertToGithubEvent(entry.getValue(), userId))
+                .filter(event -> event.getRepoName() != null)
+                .filter(event -> !storedRepoNames.contains(event.getRepoName()))
+                .map(event -> convertToGithubEvent(event, userId))
                 .toList();
     }
 
@@ -1154,34 +718,24 @@ public class GithubRestApiService {
     }
 
     /**
-     * 1. 메서드 설명: API 이벤트 데이터(Map<String, Object>)를 GithubEvent 객체로 변환하는 메서드.
+     * 1. 메서드 설명: API 이벤트 목록 항목(EventListItem)을 GithubEvent 객체로 변환하는 메서드.
      * 2. 로직:
-     *    - 이벤트 맵에서 이벤트 ID, 이벤트 타입, repo 객체, 생성 시간 문자열(created_at)을 추출한다.
-     *    - repo 객체에서 repository 이름을 추출한다.
-     *    - 생성 시간 문자열을 OffsetDateTime을 통해 LocalDateTime으로 변환한다.
+     *    - 이벤트 항목의 이벤트 ID, 이벤트 타입, repository 이름, 생성 시간을 사용한다.
      *    - Event 객체와 GithubEvent 객체를 빌더 패턴으로 생성하여 반환한다.
      * 3. param:
-     *      Map<String, Object> event - GitHub Events API에서 반환된 이벤트 데이터가 담긴 Map.
+     *      EventListItem event - GitHub Events API에서 반환된 이벤트 항목.
      *      int userId - 사용자의 로컬 식별자.
      * 4. return: GithubEvent - 변환된 GithubEvent 객체.
      */
-    private GithubEvent convertToGithubEvent(Map<String, Object> event, int userId) {
-        String eventId = (String) event.get("id");
-        String eventType = (String) event.get("type");
-        @SuppressWarnings("unchecked")
-        Map<String, Object> repoMap = (Map<String, Object>) event.get("repo");
-        String repoName = repoMap != null ? (String) repoMap.get("name") : null;
-        String createdAtStr = (String) event.get("created_at");
-        LocalDateTime createdAt = OffsetDateTime.parse(createdAtStr).toLocalDateTime();
-
+    private GithubEvent convertToGithubEvent(EventListItem event, int userId) {
         Event eventObj = Event.builder()
-                .eventType(eventType)
-                .repo(repoName)
-                .createdAt(createdAt)
+                .eventType(event.getType())
+                .repo(event.getRepoName())
+                .createdAt(event.getCreatedAt())
                 .build();
 
         return GithubEvent.builder()
-                .githubEventId(eventId)
+                .githubEventId(event.getId())
                 .userId(userId)
                 .events(eventObj)
                 .build();
@@ -1191,6 +745,46 @@ public class GithubRestApiService {
     // 8. 공통 헬퍼 메서드
     // ============================================================
 
+    /**
+     * 1. 메서드 설명: Document의 배열 필드 끝에 원소들을 이어 붙이는 헬퍼 메서드.
+     * 2. 로직:
+     *    - $push/$each update를 upsert로 실행하여, Document가 없으면 query 조건 필드와 함께 새로 생성한다.
+     *    - 빈 목록이면 Document 생성만 보장하고 배열은 그대로 둔다.
+     * 3. param:
+     *      query       - 대상 Document 조건.
+     *      arrayField  - 원소를 추가할 배열 필드명.
+     *      elements    - 추가할 원소 목록.
+     *      entityClass - Document 클래스.
+     * 4. return: 없음.
+     */
+    private void appendToArray(Query query, String arrayField, List<?> elements, Class<?> entityClass) {
+        Update update = new Update().push(arrayField).each(elements.toArray());
+        mongoTemplate.upsert(query, update, entityClass);
+    }
+
+    /**
+     * 1. 메서드 설명: GitHub 목록 API를 per_page=100 단위로 조회하는 GithubPageIterator를 생성하는 헬퍼 메서드.
+     * 2. 로직:
+     *    - URI 템플릿에 per_page 파라미터를 추가하고 uriVariables로 확장하여 첫 페이지 URI를 만든다.
+     *    - 이후 페이지는 iterator가 Link 헤더의 rel="next"를 따라 조회한다.
+     * 3. param:
+     *      uriTemplate  - 목록 API의 URI 템플릿.
+     *      request      - 인증 헤더가 포함된 HttpEntity.
+     *      resourceName - 오류 메시지에 사용할 리소스 이름.
+     *      uriVariables  - URI 템플릿 변수.
+     *      elementReader - 배열 원소 하나를 타입 객체로 읽는 reader.
+     * 4. return: GithubPageIterator 객체.
+     */
+    private <T> GithubPageIterator<T> pageIterator(String uriTemplate, HttpEntity<?> request, String resourceName,
+                                                   Map<String, ?> uriVariables, GithubPayloadReader.ElementReader<T> elementReader) {
+        URI firstUri = UriComponentsBuilder.fromUriString(uriTemplate)
+                .queryParam("per_page", GithubPageIterator.PER_PAGE)
+                .encode()
+                .buildAndExpand(uriVariables)
+                .toUri();
+        return new GithubPageIterator<>(restTemplate, firstUri, request, resourceName, elementReader);
+    }
+
     /**
      * 1. 메서드 설명: 주어진 access token과 mediaType을 기반으로 HTTP 헤더를 생성하는 헬퍼 메서드.
      * 2. 로직:
@@ -0,0 +1,291 @@
+package com.gittowork.global.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gittowork.global.config.GptConfig;
+import com.gittowork.global.exception.CoverLetterAnalysisException;
+import com.gittowork.global.exception.LlmGatewayBusyException;
+import com.gittowork.global.properties.OpenAIProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * OpenAI Chat Completions 호출을 모아 처리하는 gateway.
+ * - 동시 호출 수를 semaphore로 제한한다. 사용자 요청 안에서 호출되는 prompt(오늘의 운세)는 permit을 짧게만 기다리고,
+ *   permit을 얻지 못하면 LlmGatewayBusyException(503)을 던진다.
+ * - 같은 prompt가 동시에 요청되면 한 번만 호출하고 결과를 공유한다. (single-flight)
+ * - 응답 content를 prompt hash 기준으로 Redis에 TTL과 함께 캐시한다. 오늘의 운세는 DailyFortuneStore가 사주 구성과 날짜 단위로 저장하므로
+ *   gateway에서는 캐시하지 않는다.
+ * - prompt 종류별 호출 수, 캐시 적중 수, 토큰 사용량을 집계한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LlmGateway {
+
+    public enum PromptType {
+        GITHUB_ANALYSIS(true, false),
+        COVER_LETTER_ANALYSIS(true, false),
+        TODAY_FORTUNE(false, true);
+
+        private final boolean cached;
+        private final boolean interactive;
+
+        PromptType(boolean cached, boolean interactive) {
+            this.cached = cached;
+            this.interactive = interactive;
+        }
+    }
+
+    private static final String CACHE_KEY_PREFIX = "llm:cache:";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final GptConfig gptConfig;
+    private final RestTemplate restTemplate;
+    private final OpenAIProperties openAIProperties;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Map<PromptType, Usage> usages = new EnumMap<>(PromptType.class);
+
+    @Value("${llm.gateway.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${llm.gateway.acquire-timeout-ms:60000}")
+    private long acquireTimeoutMillis;
+
+    @Value("${llm.gateway.interactive-acquire-timeout-ms:2000}")
+    private long interactiveAcquireTimeoutMillis;
+
+    @Value("${llm.gateway.cache-ttl-minutes:1440}")
+    private long cacheTtlMinutes;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrency, true);
+        for (PromptType type : PromptType.values()) {
+            usages.put(type, new Usage());
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 시스템 메시지와 사용자 메시지로 GPT를 호출하여 응답 content를 파싱한 결과를 반환한다.
+     * 2. 로직:
+     *    - (모델, 최대 토큰 수, 시스템 메시지, prompt)의 SHA-256 hash로 캐시 키를 만들고, 캐시하는 prompt 종류이면서 캐시에 있으면 파싱하여 바로 반환한다.
+     *    - 같은 키의 호출이 진행 중이면 새로 호출하지 않고 그 content를 기다려 파싱한다.
+     *    - 그렇지 않으면 동시 호출 제한 permit을 얻어 API를 호출하고, 파싱에 성공한 content만 (캐시하는 prompt 종류이면) 캐시에 저장한 후 기다리는 호출자와 공유한다.
+     * 3. param:
+     *      PromptType type - prompt 종류 (캐시 여부, permit 대기 시간과 사용량 집계 단위).
+     *      String systemMessageContent - 시스템 메시지 내용.
+     *      String prompt - 사용자 메시지 내용.
+     *      int maxToken - API 호출 시 사용할 최대 토큰 수.
+     *      Function<String, T> parser - content를 결과 객체로 변환하는 parser.
+     * 4. return: 파싱된 결과 객체.
+     */
+    public <T> T complete(PromptType type, String systemMessageContent, String prompt, int maxToken, Function<String, T> parser) {
+        Usage usage = usages.get(type);
+        String cacheKey = cacheKey(type, systemMessageContent, prompt, maxToken);
+
+        String cached = type.cached ? readCache(cacheKey) : null;
+        if (cached != null) {
+            usage.cacheHits.increment();
+            return parser.apply(cached);
+        }
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(cacheKey, call);
+        if (existing != null) {
+            usage.deduplicated.increment();
+            String content;
+            try {
+                content = existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            return parser.apply(content);
+        }
+
+        try {
+            String content = callWithPermit(type, systemMessageContent, prompt, maxToken);
+            T result = parser.apply(content);
+            if (type.cached) {
+                writeCache(cacheKey, content, Duration.ofMinutes(cacheTtlMinutes));
+            }
+            call.complete(content);
+            return result;
+        } catch (RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, call);
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: 동시 호출 제한 permit을 얻어 GPT API를 호출한다.
+     * 2. 로직:
+     *    - 사용자 요청 안에서 호출되는 prompt 종류는 interactiveAcquireTimeoutMillis, 그 외(비동기 분석)는 acquireTimeoutMillis만큼 permit을 기다린다.
+     *    - 기다리는 동안 permit을 얻지 못하거나 인터럽트되면 LlmGatewayBusyException을 던진다.
+     * 3. param:
+     *      PromptType type - prompt 종류.
+     *      String systemMessageContent - 시스템 메시지 내용.
+     *      String prompt - 사용자 메시지 내용.
+     *      int maxToken - API 호출 시 사용할 최대 토큰 수.
+     * 4. return: GPT 응답 content 문자열.
+     */
+    private String callWithPermit(PromptType type, String systemMessageContent, String prompt, int maxToken) {
+        long timeoutMillis = type.interactive ? interactiveAcquireTimeoutMillis : acquireTimeoutMillis;
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                usages.get(type).rejected.increment();
+                throw new LlmGatewayBusyException("GPT API is busy");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LlmGatewayBusyException("Interrupted while waiting for GPT API");
+        }
+        try {
+            return callGptApi(type, systemMessageContent, prompt, maxToken);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: GPT API에 요청을 보내고 응답 content와 토큰 사용량을 추출한다.
+     * 2. 로직:
+     *    - HTTP 헤더에 Content-Type과 Bearer 인증 정보를 설정하고, 모델/온도/최대 토큰 수/메시지로 요청 본문을 구성한다.
+     *    - 응답의 choices[0].message.content를 반환하고, usage의 prompt/completion 토큰 수를 prompt 종류별로 누적한다.
+     * 3. param:
+     *      PromptType type - prompt 종류.
+     *      String systemMessageContent - 시스템 메시지 내용.
+     *      String prompt - 사용자 메시지 내용.
+     *      int maxToken - API 호출 시 사용할 최대 토큰 수.
+     * 4. return: GPT 응답 content 문자열.
+     */
+    private String callGptApi(PromptType type, String systemMessageContent, String prompt, int maxToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(gptConfig.getApiKey());
+
+        Map<String, Object> requestBody = Map.of(
+                "model", gptConfig.getModel(),
+                "messages", List.of(
+                        Map.of("role", "system", "content", systemMessageContent),
+                        Map.of("role", "user", "content", prompt)
+                ),
+                "temperature", 0.3,
+                "max_tokens", maxToken
+        );
+
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+        Usage usage = usages.get(type);
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(openAIProperties.getUrl(), HttpMethod.POST, entity, String.class);
+            String responseBody = response.getBody();
+            log.debug("GPT API response: {}", responseBody);
+
+            JsonNode rootNode = OBJECT_MAPPER.readTree(responseBody);
+            String content = rootNode.path("choices").get(0).path("message").path("content").asText();
+            JsonNode usageNode = rootNode.path("usage");
+            usage.calls.increment();
+            usage.promptTokens.add(usageNode.path("prompt_tokens").asLong());
+            usage.completionTokens.add(usageNode.path("completion_tokens").asLong());
+            log.info("Extracted GPT Content ({}): {}", type, content);
+
+            return content;
+        } catch (Exception e) {
+            usage.failures.increment();
+            throw new CoverLetterAnalysisException("Error calling GPT API");
+        }
+    }
+
+    /**
+     * 1. 메서드 설명: prompt 종류별 누적 사용량을 주기적으로 로그로 남긴다.
+     * 3. param: 없음.
+     * 4. return: 없음.
+     */
+    @Scheduled(fixedRateString = "${llm.gateway.usage-log-interval-ms:600000}")
+    public void logUsage() {
+        usages.forEach((type, usage) -> {
+            if (usage.calls.sum() + usage.cacheHits.sum() + usage.failures.sum() + usage.rejected.sum() > 0) {
+                log.info("LLM usage [{}] calls={}, cacheHits={}, deduplicated={}, failures={}, rejected={}, promptTokens={}, completionTokens={}",
+                        type, usage.calls.sum(), usage.cacheHits.sum(), usage.deduplicated.sum(), usage.failures.sum(),
+                        usage.rejected.sum(), usage.promptTokens.sum(), usage.completionTokens.sum());
+            }
+        });
+    }
+
+    private String cacheKey(PromptType type, String systemMessageContent, String prompt, int maxToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(gptConfig.getModel().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Integer.toString(maxToken).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(systemMessageContent.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(prompt.getBytes(StandardCharsets.UTF_8));
+            String hash = HexFormat.of().formatHex(digest.digest());
+            return CACHE_KEY_PREFIX + type.name().toLowerCase() + ":" + hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String readCache(String cacheKey) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(cacheKey);
+            return cached == null ? null : cached.toString();
+        } catch (RuntimeException e) {
+            log.warn("Failed to read LLM cache {}: {}", cacheKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String cacheKey, String content, Duration ttl) {
+        if (content == null || content.isBlank() || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(cacheKey, content, ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write LLM cache {}: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    private static final class Usage {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder deduplicated = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+    }
+}
@@ -0,0 +1,171 @@
+package com.gittowork.global.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PDF 파일에서 LLM 입력용 텍스트를 추출하는 서비스.
+ * - PDDocument를 제한된 heap + 임시 파일(mixed) 모드로 열어 큰 PDF가 heap 전체를 차지하지 않게 한다.
+ * - 텍스트를 문자 수 상한이 있는 Writer로 바로 기록하며, 페이지 수 또는 문자 수 상한에 도달하면 추출을 멈춘다.
+ * - 추출된 텍스트는 LLM 호출 단위 크기의 chunk로 나누어 반환한다.
+ */
+@Slf4j
+@Service
+public class PdfTextExtractor {
+
+    @Value("${pdf.extract.max-main-memory-bytes:16777216}")
+    private long maxMainMemoryBytes;
+
+    @Value("${pdf.extract.max-pages:30}")
+    private int maxPages;
+
+    @Value("${pdf.extract.max-chars:20000}")
+    private int maxChars;
+
+    @Value("${pdf.extract.chunk-chars:8000}")
+    private int chunkChars;
+
+    /**
+     * 1. 메서드 설명: PDF 파일의 텍스트를 최대 문자 수까지만 추출하여 chunk 목록으로 반환한다.
+     * 2. 로직:
+     *    - MemoryUsageSetting.setupMixed로 heap 사용량 상한을 두고 PDDocument를 연다.
+     *    - PDFTextStripper.writeText로 최대 페이지 수까지의 텍스트를 BoundedWriter에 바로 기록한다.
+     *    - BoundedWriter는 maxChars에 도달하면 예외로 추출을 중단시키므로, 페이지 전체 텍스트를 메모리에 만들지 않는다.
+     *    - 누적된 텍스트를 chunkChars 이하의 chunk로 나눈다.
+     * 3. param:
+     *      File pdfFile - 텍스트를 추출할 PDF 파일.
+     * 4. return: 비어 있지 않은 텍스트 chunk 목록. (텍스트가 없으면 빈 목록)
+     */
+    public List<String> extractChunks(File pdfFile) throws IOException {
+        BoundedWriter writer = new BoundedWriter(maxChars);
+        try (PDDocument document = PDDocument.load(pdfFile, MemoryUsageSetting.setupMixed(maxMainMemoryBytes))) {
+            int pageCount = Math.min(document.getNumberOfPages(), maxPages);
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(1);
+            stripper.setEndPage(pageCount);
+            try {
+                stripper.writeText(document, writer);
+            } catch (CharBudgetExhaustedException e) {
+                log.debug("Stopped PDF text extraction of {} at {} chars", pdfFile.getName(), maxChars);
+            }
+            if (document.getNumberOfPages() > pageCount || writer.isExhausted()) {
+                log.info("Truncated PDF text of {} ({} pages) to {} pages / {} chars",
+                        pdfFile.getName(), document.getNumberOfPages(), pageCount, maxChars);
+            }
+        }
+        return chunk(writer.getText());
+    }
+
+    /**
+     * 1. 메서드 설명: 텍스트를 chunkChars 이하 크기의 chunk로 나눈다.
+     * 2. 로직:
+     *    - chunk 끝 부분의 마지막 줄바꿈(없으면 공백)에서 자르되, 경계가 chunk 앞쪽 절반보다 앞에 있으면 그대로 chunkChars에서 자른다.
+     *    - 공백만 있는 chunk는 제외한다.
+     * 3. param:
+     *      CharSequence text - 나눌 텍스트.
+     * 4. return: chunk 목록.
+     */
+    private List<String> chunk(CharSequence text) {
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        int length = text.length();
+        while (start < length) {
+            int end = Math.min(start + chunkChars, length);
+            if (end < length) {
+                int boundary = lastBoundary(text, start + chunkChars / 2, end);
+                if (boundary > 0) {
+                    end = boundary;
+                }
+            }
+            String chunk = text.subSequence(start, end).toString().strip();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static int lastBoundary(CharSequence text, int from, int to) {
+        int whitespace = -1;
+        for (int i = to - 1; i >= from; i--) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                return i + 1;
+            }
+            if (whitespace < 0 && Character.isWhitespace(c)) {
+                whitespace = i + 1;
+            }
+        }
+        return whitespace;
+    }
+
+    /**
+     * 최대 문자 수까지만 텍스트를 받아 두고, 상한을 넘는 쓰기가 들어오면 CharBudgetExhaustedException으로 추출을 중단시키는 Writer.
+     */
+    private static final class BoundedWriter extends Writer {
+
+        private final StringBuilder text = new StringBuilder();
+        private final int limit;
+        private boolean exhausted;
+
+        private BoundedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            int remaining = limit - text.length();
+            if (length > remaining) {
+                text.append(buffer, offset, Math.max(remaining, 0));
+                exhausted = true;
+                throw new CharBudgetExhaustedException();
+            }
+            text.append(buffer, offset, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            int remaining = limit - text.length();
+            if (length > remaining) {
+                text.append(str, offset, offset + Math.max(remaining, 0));
+                exhausted = true;
+                throw new CharBudgetExhaustedException();
+            }
+            text.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private boolean isExhausted() {
+            return exhausted;
+        }
+
+        private CharSequence getText() {
+            return text;
+        }
+    }
+
+    private static final class CharBudgetExhaustedException extends IOException {
+
+        private CharBudgetExhaustedException() {
+            super("PDF text character budget exhausted", null);
+        }
+    }
+}
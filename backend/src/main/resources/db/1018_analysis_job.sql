@@ -0,0 +1,28 @@
+USE `gittowork`;
+
+--
+-- Table structure for table `analysis_job`
+--
+
+DROP TABLE IF EXISTS `analysis_job`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `analysis_job` (
+  `analysis_job_id` int NOT NULL AUTO_INCREMENT,
+  `user_id` int NOT NULL,
+  `selected_repositories_id` varchar(255) NOT NULL,
+  `active_key` varchar(255) DEFAULT NULL,
+  `repository_ids` varchar(1000) NOT NULL,
+  `status` varchar(20) NOT NULL,
+  `attempts` int NOT NULL DEFAULT '0',
+  `lease_owner` varchar(100) DEFAULT NULL,
+  `lease_expires_at` timestamp NULL DEFAULT NULL,
+  `next_run_at` timestamp NOT NULL,
+  `last_error` varchar(1000) DEFAULT NULL,
+  `create_dttm` timestamp NOT NULL,
+  PRIMARY KEY (`analysis_job_id`),
+  UNIQUE KEY `uk_analysis_job_active_key` (`active_key`),
+  KEY `idx_analysis_job_status_next_run` (`status`,`next_run_at`),
+  KEY `idx_analysis_job_selected_repositories` (`selected_repositories_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
@@ -0,0 +1,20 @@
+USE `gittowork`;
+
+--
+-- Table structure for table `company_summary`
+--
+
+DROP TABLE IF EXISTS `company_summary`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `company_summary` (
+  `company_id` int NOT NULL,
+  `company_name` varchar(100) NOT NULL,
+  `logo` varchar(255) DEFAULT NULL,
+  `field_name` varchar(100) DEFAULT NULL,
+  `tech_stacks` text,
+  `latest_deadline_dttm` timestamp NULL DEFAULT NULL,
+  `update_dttm` timestamp NULL DEFAULT NULL,
+  PRIMARY KEY (`company_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
@@ -0,0 +1,126 @@
+package com.gittowork.domain.fortune.service;
+
+import com.gittowork.domain.fortune.model.SajuResult;
+import com.gittowork.domain.fortune.model.SolarTerm;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * SajuCalculator 도입 전 FortuneService에 있던 사주 계산 로직을 그대로 옮긴 비교 기준 구현.
+ * - 동등성 테스트와 JMH benchmark에서만 사용하며, 계산 로직은 수정하지 않는다.
+ */
+class LegacySajuCalculator {
+
+    private static final String[] HEAVENLY_STEMS = {"갑", "을", "병", "정", "무", "기", "경", "신", "임", "계"};
+    private static final String[] EARTHLY_BRANCHES = {"자", "축", "인", "묘", "진", "사", "오", "미", "신", "유", "술", "해"};
+
+    private static final LocalDate BASE_DATE = LocalDate.of(1900, 1, 31);
+
+    private static final List<SolarTerm> SOLAR_TERMS = Arrays.asList(
+            new SolarTerm(1, 5, "축"),
+            new SolarTerm(2, 4, "인"),
+            new SolarTerm(3, 6, "묘"),
+            new SolarTerm(4, 5, "진"),
+            new SolarTerm(5, 6, "사"),
+            new SolarTerm(6, 5, "오"),
+            new SolarTerm(7, 7, "미"),
+            new SolarTerm(8, 8, "신"),
+            new SolarTerm(9, 8, "유"),
+            new SolarTerm(10, 8, "술"),
+            new SolarTerm(11, 7, "해"),
+            new SolarTerm(12, 7, "자")
+    );
+
+    SajuResult calculateSaju(LocalDateTime birthDateTime, String sex) {
+        int year = birthDateTime.getYear();
+        int yearStemIndex = (year - 4) % 10;
+        int yearBranchIndex = (year - 4) % 12;
+        String yearPillar = HEAVENLY_STEMS[yearStemIndex] + EARTHLY_BRANCHES[yearBranchIndex];
+
+        String monthBranch = getMonthBranchBySolarTerm(birthDateTime.toLocalDate());
+        int monthOrder = getBranchOrder(monthBranch);
+        int monthStemIndex = (yearStemIndex * 2 + monthOrder + 1) % 10;
+        String monthPillar = HEAVENLY_STEMS[monthStemIndex] + monthBranch;
+
+        int dayStemIndex = dayStemIndex(birthDateTime.toLocalDate());
+        int dayBranchIndex = dayIndex(birthDateTime.toLocalDate()) % 12;
+        String dayPillar = HEAVENLY_STEMS[dayStemIndex] + EARTHLY_BRANCHES[dayBranchIndex];
+
+        String hourPillar = getHourPillar(birthDateTime, dayStemIndex);
+
+        return SajuResult.builder()
+                .yearPillar(yearPillar)
+                .monthPillar(monthPillar)
+                .dayPillar(dayPillar)
+                .hourPillar(hourPillar)
+                .sex(sex)
+                .build();
+    }
+
+    static int dayStemIndex(LocalDate birthDate) {
+        return dayIndex(birthDate) % 10;
+    }
+
+    static String getHourPillar(LocalDateTime birthDateTime, int dayStemIndex) {
+        int birthHour = birthDateTime.getHour();
+        int birthMinute = birthDateTime.getMinute();
+        int totalMinutes = birthHour * 60 + birthMinute;
+
+        int adjustedMinutes = totalMinutes - (23 * 60);
+        if (adjustedMinutes < 0) {
+            adjustedMinutes += 1440;
+        }
+
+        double branchIndexDecimal = adjustedMinutes / 120.0;
+        int hourBranchIndex = (int) Math.floor(branchIndexDecimal) % 12;
+        String hourBranch = EARTHLY_BRANCHES[hourBranchIndex];
+
+        double segmentFraction = branchIndexDecimal - Math.floor(branchIndexDecimal);
+        int halfHourOffset = (segmentFraction >= 0.5) ? 1 : 0;
+
+        int hourStemIndex = ((dayStemIndex % 5) * 2 + hourBranchIndex + halfHourOffset) % 10;
+        String hourStem = HEAVENLY_STEMS[hourStemIndex];
+
+        return hourStem + hourBranch;
+    }
+
+    private static int dayIndex(LocalDate birthDate) {
+        long daysBetween = ChronoUnit.DAYS.between(BASE_DATE, birthDate);
+        return (int) ((daysBetween % 60 + 60) % 60);
+    }
+
+    private String getMonthBranchBySolarTerm(LocalDate birthDate) {
+        int year = birthDate.getYear();
+        List<SolarTerm> currentYearTerms = SOLAR_TERMS.stream()
+                .sorted(Comparator.comparing(term -> term.getDate(year)))
+                .toList();
+
+        SolarTerm matchedTerm = currentYearTerms.stream()
+                .filter(term -> !birthDate.isBefore(term.getDate(year)))
+                .reduce((first, second) -> second)
+                .orElse(null);
+
+        if (matchedTerm == null) {
+            int prevYear = year - 1;
+            List<SolarTerm> previousYearTerms = SOLAR_TERMS.stream()
+                    .sorted(Comparator.comparing(term -> term.getDate(prevYear)))
+                    .toList();
+            matchedTerm = previousYearTerms.get(previousYearTerms.size() - 1);
+        }
+        return matchedTerm.getBranch();
+    }
+
+    private int getBranchOrder(String branch) {
+        for (int i = 0; i < EARTHLY_BRANCHES.length; i++) {
+            if (EARTHLY_BRANCHES[i].equals(branch)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
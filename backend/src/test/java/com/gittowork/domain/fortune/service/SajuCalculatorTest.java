@@ -0,0 +1,59 @@
+package com.gittowork.domain.fortune.service;
+
+import com.gittowork.domain.fortune.model.SajuResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * SajuCalculator가 이전 FortuneService 구현(LegacySajuCalculator)과 같은 사주를 계산하는지 전수 비교한다.
+ * - 1900-01-01부터 2100-12-31까지 모든 날짜의 모든 분(minute)에 대해 연주/월주/일주/시주와 성별을 비교한다.
+ * - 이전 구현의 시주는 일간과 시각(시, 분)에만 의존하므로, 일간 10개 x 1440분 표를 미리 계산해 두고 날짜마다 조회한다.
+ */
+class SajuCalculatorTest {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final LocalDate FIRST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LAST_DATE = LocalDate.of(2100, 12, 31);
+    private static final String SEX = "M";
+
+    private final SajuCalculator sajuCalculator = new SajuCalculator();
+    private final LegacySajuCalculator legacySajuCalculator = new LegacySajuCalculator();
+
+    @Test
+    void calculateMatchesLegacyImplementationForEveryMinuteFrom1900To2100() {
+        String[][] legacyHourPillars = new String[10][MINUTES_PER_DAY];
+        for (int dayStemIndex = 0; dayStemIndex < 10; dayStemIndex++) {
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                legacyHourPillars[dayStemIndex][minute] = LegacySajuCalculator.getHourPillar(
+                        FIRST_DATE.atTime(minute / 60, minute % 60), dayStemIndex);
+            }
+        }
+
+        long compared = 0;
+        for (LocalDate date = FIRST_DATE; !date.isAfter(LAST_DATE); date = date.plusDays(1)) {
+            SajuResult expected = legacySajuCalculator.calculateSaju(date.atStartOfDay(), SEX);
+            String[] expectedHourPillars = legacyHourPillars[LegacySajuCalculator.dayStemIndex(date)];
+            assertEquals(expected.getHourPillar(), expectedHourPillars[0], date::toString);
+            for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+                LocalDateTime birthDateTime = date.atTime(minute / 60, minute % 60);
+                SajuResult actual = sajuCalculator.calculate(birthDateTime, SEX);
+                if (!expected.getYearPillar().equals(actual.getYearPillar())
+                        || !expected.getMonthPillar().equals(actual.getMonthPillar())
+                        || !expected.getDayPillar().equals(actual.getDayPillar())
+                        || !expectedHourPillars[minute].equals(actual.getHourPillar())
+                        || !SEX.equals(actual.getSex())) {
+                    fail(birthDateTime + ": expected " + expected.getYearPillar() + " " + expected.getMonthPillar()
+                            + " " + expected.getDayPillar() + " " + expectedHourPillars[minute]
+                            + " but was " + actual);
+                }
+                compared++;
+            }
+        }
+        assertEquals((LAST_DATE.toEpochDay() - FIRST_DATE.toEpochDay() + 1) * MINUTES_PER_DAY, compared);
+    }
+}
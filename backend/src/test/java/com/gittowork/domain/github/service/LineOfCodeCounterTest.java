@@ -0,0 +1,67 @@
+package com.gittowork.domain.github.service;
+
+import com.gittowork.domain.github.model.analysis.CodeLanguage;
+import com.gittowork.domain.github.model.analysis.LanguageLineCount;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LineOfCodeCounterTest {
+
+    private final LineOfCodeCounter lineOfCodeCounter = new LineOfCodeCounter();
+
+    @Test
+    void blockOpenerInsideStringLiteralDoesNotStartComment() {
+        LanguageLineCount count = count("""
+                return GroupedOpenApi.builder()
+                        .pathsToMatch("/api/**")
+                        .pathsToExclude('/*', "escaped \\" /*")
+                        .build();
+                """);
+        assertCounts(count, 4, 0, 0);
+    }
+
+    @Test
+    void blockOpenerInsideTrailingLineCommentDoesNotStartComment() {
+        LanguageLineCount count = count("""
+                int limit = 10; // see /*
+                int offset = 0;
+                """);
+        assertCounts(count, 2, 0, 0);
+    }
+
+    @Test
+    void codeBetweenBlockCommentsReopensComment() {
+        LanguageLineCount count = count("""
+                /* header
+                 end */ int value = 1; /* trailing
+                 still comment
+                 */
+                int next = value;
+                """);
+        assertCounts(count, 2, 3, 0);
+    }
+
+    @Test
+    void unclosedBlockCommentAfterCodeStartsComment() {
+        LanguageLineCount count = count("""
+                String path = "/api"; /* note
+                 continues */
+
+                """);
+        assertCounts(count, 1, 1, 1);
+    }
+
+    private LanguageLineCount count(String source) {
+        return lineOfCodeCounter.countLines(ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8)), CodeLanguage.JAVA);
+    }
+
+    private static void assertCounts(LanguageLineCount count, long code, long comment, long blank) {
+        assertEquals(code, count.getCodeLines(), "code lines");
+        assertEquals(comment, count.getCommentLines(), "comment lines");
+        assertEquals(blank, count.getBlankLines(), "blank lines");
+    }
+}
@@ -0,0 +1,171 @@
+package com.gittowork.domain.interaction.service;
+
+import com.gittowork.domain.company.entity.Company;
+import com.gittowork.domain.company.entity.CompanySummary;
+import com.gittowork.domain.company.repository.CompanyRepository;
+import com.gittowork.domain.company.repository.CompanySummaryRepository;
+import com.gittowork.domain.company.service.CompanySummaryService;
+import com.gittowork.domain.field.entity.Field;
+import com.gittowork.domain.interaction.dto.request.InteractionGetRequest;
+import com.gittowork.domain.interaction.dto.response.CompanyInteractionResponse;
+import com.gittowork.domain.interaction.entity.*;
+import com.gittowork.domain.interaction.repository.UserBlacklistRepository;
+import com.gittowork.domain.interaction.repository.UserLikesRepository;
+import com.gittowork.domain.interaction.repository.UserScrapsRepository;
+import com.gittowork.domain.jobnotice.repository.JobNoticeRepository;
+import com.gittowork.domain.techstack.repository.NoticeTechStackRepository;
+import com.gittowork.domain.user.entity.User;
+import com.gittowork.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스크랩/좋아요/차단 기업 목록 조회가 페이지 크기와 관계없이 일정한 수의 SQL만 실행하는지 Hibernate 통계로 검증한다.
+ * - 20건 페이지를 offset 방식으로 조회하면 company_summary join 조회 1번과 count 조회 1번만 실행되어야 한다.
+ * - cursor 방식으로 조회하면 (전체 개수를 요청하지 않는 한) 조회 1번만 실행되어야 한다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:interaction;MODE=MySQL;NON_KEYWORDS=USER;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CompanyInteractionServiceStatementCountTest {
+
+    private static final String GITHUB_NAME = "octocat";
+    private static final int PAGE_SIZE = 20;
+    private static final int INTERACTION_COUNT = 25;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private CompanySummaryRepository companySummaryRepository;
+    @Autowired
+    private UserScrapsRepository userScrapsRepository;
+    @Autowired
+    private UserLikesRepository userLikesRepository;
+    @Autowired
+    private UserBlacklistRepository userBlacklistRepository;
+    @Autowired
+    private JobNoticeRepository jobNoticeRepository;
+    @Autowired
+    private NoticeTechStackRepository noticeTechStackRepository;
+
+    private CompanyInteractionService companyInteractionService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = testEntityManager.persist(User.builder()
+                .githubId(1)
+                .githubName(GITHUB_NAME)
+                .createDttm(LocalDateTime.now())
+                .build());
+        Field field = testEntityManager.persist(Field.builder()
+                .id(1)
+                .fieldName("IT")
+                .fieldLogoUrl("https://example.com/field.png")
+                .build());
+
+        for (int companyId = 1; companyId <= INTERACTION_COUNT; companyId++) {
+            Company company = testEntityManager.persist(Company.builder()
+                    .id(companyId)
+                    .companyName("company-" + companyId)
+                    .field(field)
+                    .build());
+            testEntityManager.persist(CompanySummary.builder()
+                    .companyId(companyId)
+                    .companyName(company.getCompanyName())
+                    .fieldName(field.getFieldName())
+                    .techStacks("[\"Java\",\"Spring\"]")
+                    .latestDeadlineDttm(LocalDateTime.now().plusDays(companyId % 2 == 0 ? 7 : -7))
+                    .updateDttm(LocalDateTime.now())
+                    .build());
+            testEntityManager.persist(UserScraps.builder()
+                    .id(new UserScrapsId(user.getId(), companyId)).user(user).company(company).build());
+            testEntityManager.persist(UserLikes.builder()
+                    .id(new UserLikesId(user.getId(), companyId)).user(user).company(company).build());
+            testEntityManager.persist(UserBlacklist.builder()
+                    .id(new UserBlacklistId(user.getId(), companyId)).user(user).company(company).build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        UserInteractionCache userInteractionCache = mock(UserInteractionCache.class);
+        when(userInteractionCache.resolveUserId(eq(GITHUB_NAME), any())).thenReturn(user.getId());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(GITHUB_NAME, null));
+
+        companyInteractionService = new CompanyInteractionService(userRepository, companyRepository,
+                userLikesRepository, userScrapsRepository, userBlacklistRepository,
+                new CompanySummaryService(companyRepository, companySummaryRepository, jobNoticeRepository, noticeTechStackRepository),
+                userInteractionCache, mock(InteractionWriteBuffer.class));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void scrapPageRunsConstantNumberOfStatements() {
+        assertStatementCounts(companyInteractionService::getScrapCompany);
+    }
+
+    @Test
+    void likePageRunsConstantNumberOfStatements() {
+        assertStatementCounts(companyInteractionService::getMyLikeCompany);
+    }
+
+    @Test
+    void blacklistPageRunsConstantNumberOfStatements() {
+        assertStatementCounts(companyInteractionService::getMyBlackList);
+    }
+
+    private void assertStatementCounts(Function<InteractionGetRequest, CompanyInteractionResponse> pageQuery) {
+        CompanyInteractionResponse firstPage = pageQuery.apply(InteractionGetRequest.builder()
+                .page(0)
+                .size(PAGE_SIZE)
+                .build());
+        assertEquals(PAGE_SIZE, firstPage.getCompanies().size());
+        assertTrue(firstPage.getCompanies().stream().allMatch(company -> company.isScrapped()
+                && company.getTechStacks().size() == 2));
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        CompanyInteractionResponse cursorPage = pageQuery.apply(InteractionGetRequest.builder()
+                .size(PAGE_SIZE)
+                .cursor(firstPage.getPagination().getNextCursor())
+                .build());
+        assertEquals(INTERACTION_COUNT - PAGE_SIZE, cursorPage.getCompanies().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
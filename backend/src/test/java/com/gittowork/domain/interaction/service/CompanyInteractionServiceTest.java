@@ -0,0 +1,91 @@
+package com.gittowork.domain.interaction.service;
+
+import com.gittowork.domain.company.repository.CompanyRepository;
+import com.gittowork.domain.company.service.CompanySummaryService;
+import com.gittowork.domain.interaction.model.InteractionType;
+import com.gittowork.domain.interaction.repository.UserBlacklistRepository;
+import com.gittowork.domain.interaction.repository.UserLikesRepository;
+import com.gittowork.domain.interaction.repository.UserScrapsRepository;
+import com.gittowork.domain.user.repository.UserRepository;
+import com.gittowork.global.exception.InteractionDuplicateException;
+import com.gittowork.global.exception.UserInteractionNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 상호작용 캐시를 사용할 수 없을 때 write-behind 버퍼의 대기 중인 변경으로 중복/존재 여부를 판단하는지 검증한다.
+ */
+class CompanyInteractionServiceTest {
+
+    private static final String GITHUB_NAME = "octocat";
+    private static final int USER_ID = 1;
+    private static final int COMPANY_ID = 10;
+
+    private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+    private final UserScrapsRepository userScrapsRepository = mock(UserScrapsRepository.class);
+    private final UserInteractionCache userInteractionCache = mock(UserInteractionCache.class);
+    private final InteractionWriteBuffer interactionWriteBuffer = mock(InteractionWriteBuffer.class);
+
+    private CompanyInteractionService companyInteractionService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(GITHUB_NAME, null));
+        when(userInteractionCache.resolveUserId(eq(GITHUB_NAME), any())).thenReturn(USER_ID);
+        when(companyRepository.existsById(COMPANY_ID)).thenReturn(true);
+
+        companyInteractionService = new CompanyInteractionService(mock(UserRepository.class), companyRepository,
+                mock(UserLikesRepository.class), userScrapsRepository, mock(UserBlacklistRepository.class),
+                mock(CompanySummaryService.class), userInteractionCache, interactionWriteBuffer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void addUsesPendingAddWhenRedisIsDown() {
+        when(interactionWriteBuffer.pendingState(InteractionType.SCRAP, USER_ID, COMPANY_ID)).thenReturn(true);
+
+        assertThrows(InteractionDuplicateException.class, () -> companyInteractionService.addScrapCompany(COMPANY_ID));
+        verify(userScrapsRepository, never()).existsById(any());
+    }
+
+    @Test
+    void addUsesPendingRemoveWhenRedisIsDown() {
+        when(interactionWriteBuffer.pendingState(InteractionType.SCRAP, USER_ID, COMPANY_ID)).thenReturn(false);
+
+        assertDoesNotThrow(() -> companyInteractionService.addScrapCompany(COMPANY_ID));
+        verify(userScrapsRepository, never()).existsById(any());
+        verify(interactionWriteBuffer).record(InteractionType.SCRAP, USER_ID, COMPANY_ID, true);
+    }
+
+    @Test
+    void removeUsesPendingRemoveWhenRedisIsDown() {
+        when(interactionWriteBuffer.pendingState(InteractionType.SCRAP, USER_ID, COMPANY_ID)).thenReturn(false);
+
+        assertThrows(UserInteractionNotFoundException.class, () -> companyInteractionService.deleteScrapCompany(COMPANY_ID));
+        verify(userScrapsRepository, never()).existsById(any());
+    }
+
+    @Test
+    void fallsBackToDatabaseWithoutPendingChange() {
+        when(interactionWriteBuffer.pendingState(InteractionType.SCRAP, USER_ID, COMPANY_ID)).thenReturn(null);
+        when(userScrapsRepository.existsById(any())).thenReturn(true);
+
+        assertThrows(InteractionDuplicateException.class, () -> companyInteractionService.addScrapCompany(COMPANY_ID));
+    }
+}
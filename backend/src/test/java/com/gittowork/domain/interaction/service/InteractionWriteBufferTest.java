@@ -0,0 +1,93 @@
+package com.gittowork.domain.interaction.service;
+
+import com.gittowork.domain.interaction.model.InteractionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class InteractionWriteBufferTest {
+
+    private static final int USER_ID = 1;
+    private static final int COMPANY_ID = 10;
+
+    private JdbcTemplate jdbcTemplate;
+    private UserInteractionCache userInteractionCache;
+    private InteractionWriteBuffer interactionWriteBuffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        userInteractionCache = mock(UserInteractionCache.class);
+        interactionWriteBuffer = new InteractionWriteBuffer(jdbcTemplate, userInteractionCache);
+        ReflectionTestUtils.setField(interactionWriteBuffer, "flushThreshold", 500);
+    }
+
+    @Test
+    void addThenRemoveCancels() {
+        interactionWriteBuffer.record(InteractionType.SCRAP, USER_ID, COMPANY_ID, true);
+        interactionWriteBuffer.record(InteractionType.SCRAP, USER_ID, COMPANY_ID, false);
+
+        assertNull(interactionWriteBuffer.pendingState(InteractionType.SCRAP, USER_ID, COMPANY_ID));
+        interactionWriteBuffer.flush();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void removeThenAddCancels() {
+        interactionWriteBuffer.record(InteractionType.LIKE, USER_ID, COMPANY_ID, false);
+        interactionWriteBuffer.record(InteractionType.LIKE, USER_ID, COMPANY_ID, true);
+
+        assertNull(interactionWriteBuffer.pendingState(InteractionType.LIKE, USER_ID, COMPANY_ID));
+        interactionWriteBuffer.flush();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void sameDirectionKeepsLatestIntent() {
+        interactionWriteBuffer.record(InteractionType.BLACKLIST, USER_ID, COMPANY_ID, true);
+        interactionWriteBuffer.record(InteractionType.BLACKLIST, USER_ID, COMPANY_ID, true);
+
+        assertEquals(Boolean.TRUE, interactionWriteBuffer.pendingState(InteractionType.BLACKLIST, USER_ID, COMPANY_ID));
+    }
+
+    @Test
+    void flushWritesSharedRedisStateInsteadOfLocalIntent() {
+        interactionWriteBuffer.record(InteractionType.SCRAP, USER_ID, COMPANY_ID, true);
+        when(userInteractionCache.membership(InteractionType.SCRAP, USER_ID, List.of(COMPANY_ID)))
+                .thenReturn(Map.of(COMPANY_ID, false));
+
+        interactionWriteBuffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("DELETE FROM user_scraps"), anyCollection(), eq(1), any());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyCollection(), anyInt(), any());
+        assertNull(interactionWriteBuffer.pendingState(InteractionType.SCRAP, USER_ID, COMPANY_ID));
+    }
+
+    @Test
+    void flushFallsBackToLocalIntentWhenSharedStateUnavailable() {
+        interactionWriteBuffer.record(InteractionType.SCRAP, USER_ID, COMPANY_ID, true);
+        when(userInteractionCache.membership(InteractionType.SCRAP, USER_ID, List.of(COMPANY_ID))).thenReturn(null);
+
+        interactionWriteBuffer.flush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT IGNORE INTO user_scraps"), anyCollection(), eq(1), any());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("DELETE"), anyCollection(), anyInt(), any());
+    }
+}
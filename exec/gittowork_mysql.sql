@@ -17,6 +17,33 @@ USE `gittowork`;
 /*!40101 SET @OLD_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_AUTO_VALUE_ON_ZERO' */;
 /*!40111 SET @OLD_SQL_NOTES=@@SQL_NOTES, SQL_NOTES=0 */;
 
+--
+-- Table structure for table `analysis_job`
+--
+
+DROP TABLE IF EXISTS `analysis_job`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `analysis_job` (
+  `analysis_job_id` int NOT NULL AUTO_INCREMENT,
+  `user_id` int NOT NULL,
+  `selected_repositories_id` varchar(255) NOT NULL,
+  `active_key` varchar(255) DEFAULT NULL,
+  `repository_ids` varchar(1000) NOT NULL,
+  `status` varchar(20) NOT NULL,
+  `attempts` int NOT NULL DEFAULT '0',
+  `lease_owner` varchar(100) DEFAULT NULL,
+  `lease_expires_at` timestamp NULL DEFAULT NULL,
+  `next_run_at` timestamp NOT NULL,
+  `last_error` varchar(1000) DEFAULT NULL,
+  `create_dttm` timestamp NOT NULL,
+  PRIMARY KEY (`analysis_job_id`),
+  UNIQUE KEY `uk_analysis_job_active_key` (`active_key`),
+  KEY `idx_analysis_job_status_next_run` (`status`,`next_run_at`),
+  KEY `idx_analysis_job_selected_repositories` (`selected_repositories_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `analysis_status`
 --
@@ -183,6 +210,25 @@ INSERT INTO `company_benefits` VALUES (3,1),(8,1),(11,1),(13,1),(21,1),(27,1),(2
 /*!40000 ALTER TABLE `company_benefits` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `company_summary`
+--
+
+DROP TABLE IF EXISTS `company_summary`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `company_summary` (
+  `company_id` int NOT NULL,
+  `company_name` varchar(100) NOT NULL,
+  `logo` varchar(255) DEFAULT NULL,
+  `field_name` varchar(100) DEFAULT NULL,
+  `tech_stacks` text,
+  `latest_deadline_dttm` timestamp NULL DEFAULT NULL,
+  `update_dttm` timestamp NULL DEFAULT NULL,
+  PRIMARY KEY (`company_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
 --
 -- Table structure for table `cover_letter`
 --